@@ -7,5 +7,6 @@ public class KafkaConfig {
 
 	// Topic 이름
 	public static final String PROMOTION_WINNER_TOPIC = "promotion.winner";
+	public static final String PROMOTION_WINNER_BATCH_TOPIC = "promotion.winner.batch";
 	public static final String MONITORING_NOTIFICATION_TOPIC = "monitoring.notification";
 }
@@ -2,9 +2,14 @@ package org.nextme.promotion_service.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -28,4 +33,34 @@ public class RedisConfig {
 		template.afterPropertiesSet();
 		return template;
 	}
+
+	// 프로모션 대기열 전용 (Value를 바이너리 그대로 저장, QueueEntryCodec 참고)
+	@Bean
+	public RedisTemplate<String, byte[]> queueRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	// 프로모션 대기열 전용 리액티브 템플릿 (논블로킹 참여 처리용)
+	@Bean
+	public ReactiveRedisTemplate<String, byte[]> reactiveQueueRedisTemplate(
+		ReactiveRedisConnectionFactory connectionFactory) {
+		RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+			.<String, byte[]>newSerializationContext(new StringRedisSerializer())
+			.value(RedisSerializer.byteArray())
+			.build();
+		return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+	}
+
+	// Redis Pub/Sub 메시지 수신 컨테이너 (캐시 무효화 등)
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
 }
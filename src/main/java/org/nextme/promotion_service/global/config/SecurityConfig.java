@@ -14,6 +14,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
@@ -48,6 +50,8 @@ public class SecurityConfig {
 			.httpBasic(basic -> basic.disable())
 			.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
+				// 비동기 응답 재디스패치는 최초 요청에서 이미 인가됨
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers("/health", "/public/**", "/v1/promotions/monitoring/remediation/execute").permitAll()
 				.requestMatchers("/v1/promotions/interactive").permitAll()
 				.requestMatchers("/actuator/prometheus", "/actuator/health").permitAll()
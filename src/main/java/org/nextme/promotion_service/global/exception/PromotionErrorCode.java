@@ -15,6 +15,10 @@ public enum PromotionErrorCode {
 	PROMOTION_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "PROMOTION_NOT_AVAILABLE", "참여 가능한 프로모션이 아닙니다."),
 	PROMOTION_ALREADY_JOINED(HttpStatus.CONFLICT, "PROMOTION_ALREADY_JOINED", "이미 참여하셨습니다"),
 	PROMOTION_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "PROMOTION_QUEUE_FULL", "대기 인원이 초과되었습니다."),
+	PROMOTION_SOLD_OUT(HttpStatus.CONFLICT, "PROMOTION_SOLD_OUT", "선착순 마감되었습니다."),
+	PROMOTION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "PROMOTION_INVALID_CURSOR", "잘못된 목록 커서입니다."),
+	PROMOTION_STATUS_TOO_MANY_IDS(HttpStatus.BAD_REQUEST, "PROMOTION_STATUS_TOO_MANY_IDS", "한 번에 조회할 수 있는 프로모션 수를 초과했습니다."),
+	PROMOTION_PARTITION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PROMOTION_PARTITION_UNAVAILABLE", "참여 기록 저장 공간을 준비하지 못했습니다. 잠시 후 다시 시도해 주세요."),
 
 	// 참여 관련
 	PARTICIPATION_NOT_FOUND(HttpStatus.NOT_FOUND, "PARTICIPATION_NOT_FOUND", "참여 기록을 찾을 수 없습니다");
@@ -0,0 +1,55 @@
+package org.nextme.promotion_service.participation.application;
+
+import java.time.LocalDateTime;
+
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationPartitionManager;
+import org.nextme.promotion_service.promotion.domain.Promotion;
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+참여 기록 보관 기간 정리
+종료 후 보관 기간이 지난 프로모션의 참여 기록 파티션을 삭제 (행 단위 DELETE 없이 파티션째 삭제)
+여러 Pod에서 동시에 실행되어도 이미 삭제된 파티션은 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationPartitionCleaner {
+
+	private final PromotionRepository promotionRepository;
+	private final ParticipationPartitionManager partitionManager;
+
+	// 프로모션 종료 후 참여 기록 보관 기간 (일, 0이면 삭제하지 않음)
+	@Value("${promotion.participation.retention-days:0}")
+	private long retentionDays;
+
+	@Scheduled(cron = "${promotion.participation.cleanup-cron:0 30 4 * * *}")
+	public void dropExpiredPartitions() {
+		if (retentionDays <= 0) {
+			return;
+		}
+
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+		int dropped = 0;
+		for (Promotion promotion : promotionRepository.findByStatusAndEndTimeBefore(PromotionStatus.ENDED, cutoff)) {
+			try {
+				if (partitionManager.dropPartition(promotion.getId())) {
+					dropped++;
+				}
+			} catch (DataAccessException e) {
+				log.error("참여 기록 파티션 삭제 실패 - promotionId: {}, error: {}", promotion.getId(), e.getMessage());
+			}
+		}
+		if (dropped > 0) {
+			log.info("보관 기간이 지난 참여 기록 정리 완료 - count: {}", dropped);
+		}
+	}
+}
@@ -1,19 +1,40 @@
 package org.nextme.promotion_service.participation.application;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.nextme.promotion_service.global.exception.PromotionErrorCode;
 import org.nextme.promotion_service.participation.domain.ParticipationStatus;
-import org.nextme.promotion_service.participation.domain.PromotionParticipation;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationResultView;
 import org.nextme.promotion_service.participation.infrastructure.persistence.PromotionParticipationRepository;
+import org.nextme.promotion_service.participation.infrastructure.persistence.WinnerQueryRepository;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResult;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResultStore;
 import org.nextme.promotion_service.participation.presentation.dto.ParticipationResultResponse;
+import org.nextme.promotion_service.participation.presentation.dto.WinnerExportFormat;
 import org.nextme.promotion_service.participation.presentation.dto.WinnerListResponse;
-import org.nextme.promotion_service.promotion.domain.Promotion;
-import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.nextme.promotion_service.participation.presentation.dto.WinnerPageResponse;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.infrastructure.cache.ActivePromotionRegistry;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionCache;
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionQueueService;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueuePosition;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,42 +43,172 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ParticipationQueryService {
 
-	private final PromotionRepository promotionRepository;
 	private final PromotionParticipationRepository participationRepository;
+	private final WinnerQueryRepository winnerQueryRepository;
+	private final ParticipationResultStore resultStore;
+	private final PromotionCache promotionCache;
+	private final ActivePromotionRegistry activePromotionRegistry;
+	private final PromotionQueueService queueService;
+	private final ObjectMapper objectMapper;
+	private final ParticipationResultWaiters resultWaiters;
+
+	// 참여 결과 최대 대기 시간 (초, 서블릿 비동기 요청 제한 시간보다 짧게)
+	@Value("${promotion.result.wait.timeout-seconds:25}")
+	private long waitTimeoutSeconds;
+
+	// 당첨자 목록 페이지 최대 크기
+	private static final int MAX_WINNER_PAGE_SIZE = 1000;
+
+	// 내보내기 출력 버퍼 크기
+	private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
 	/*
 	특정 사용자의 참여 결과 조회
+	1. Redis 참여 결과 (워커가 커밋 직후 기록)
+	2. 진행 중인 프로모션의 대기열에 진입했고 처리 완료 커서가 참여 순번에 닿지 않았으면 처리 중
+	3. 처리 완료 커서를 지났는데 Redis 결과가 없으면 (커밋 이후 결과 기록 실패) DB 조회 후 Redis 결과 복구
+	4. 그 외(보관 기간이 지난 프로모션 등)는 DB 조회
 	@param promotionId 프로모션 ID
 	@param userId 사용자 ID
 	@return 참여 결과
 	 */
-	@Transactional(readOnly = true)
 	public ParticipationResultResponse getParticipationResult(UUID promotionId, UUID userId) {
-		Promotion promotion = promotionRepository.findById(promotionId)
+		PromotionSnapshot promotion = promotionCache.get(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
-		PromotionParticipation participation = participationRepository
-			.findByPromotionAndUserId(promotion, userId)
+		Optional<ParticipationResult> result = resultStore.find(promotionId, userId);
+		if (result.isPresent()) {
+			return ParticipationResultResponse.of(promotion, userId, result.get());
+		}
+
+		if (activePromotionRegistry.isActive(promotionId)) {
+			Optional<QueuePosition> position = queueService.getQueuePosition(promotion, userId);
+			if (position.isPresent()) {
+				return position.get().position() > 0
+					? ParticipationResultResponse.pending(promotion, userId)
+					: findProcessedResult(promotion, userId);
+			}
+		}
+
+		ParticipationResultView participation = participationRepository
+			.findResultView(promotionId, userId)
 			.orElseThrow(PromotionErrorCode.PARTICIPATION_NOT_FOUND::toException);
 
 		return ParticipationResultResponse.from(participation);
 	}
 
 	/*
-	당첨자 목록 조회
+	처리 완료 커서를 지난 참여자의 결과 조회 (Redis 결과 기록이 실패한 경우 DB에서 조회 후 복구)
+	커서를 지났지만 저장된 기록이 없으면 (형식이 잘못되어 버려진 항목 등) 처리 중
+	@param promotion 프로모션 스냅샷
+	@param userId 사용자 ID
+	@return 참여 결과
+	 */
+	private ParticipationResultResponse findProcessedResult(PromotionSnapshot promotion, UUID userId) {
+		Optional<ParticipationResultView> participation = participationRepository.findResultView(promotion.id(), userId);
+		if (participation.isEmpty()) {
+			return ParticipationResultResponse.pending(promotion, userId);
+		}
+
+		try {
+			resultStore.save(promotion, userId, ParticipationResult.from(participation.get()));
+		} catch (Exception e) {
+			log.warn("참여 결과 복구 실패 - promotionId: {}, userId: {}, error: {}", promotion.id(), userId, e.getMessage());
+		}
+		return ParticipationResultResponse.from(participation.get());
+	}
+
+	/*
+	참여 결과 대기 (롱 폴링)
+	결과가 이미 있으면 바로 응답하고, 처리 중이면 워커의 결과 확정 알림이나 대기 시간 초과까지 기다림
+	알림을 놓치지 않도록 대기 등록 후 현재 결과를 확인
 	@param promotionId 프로모션 ID
-	@return 당첨자 목록
+	@param userId 사용자 ID
+	@return 참여 결과 (시간 초과 시 처리 중 상태)
 	 */
-	@Transactional(readOnly = true)
-	public List<WinnerListResponse> getWinners(UUID promotionId) {
-		Promotion promotion = promotionRepository.findById(promotionId)
+	public CompletableFuture<ParticipationResultResponse> awaitParticipationResult(UUID promotionId, UUID userId) {
+		CompletableFuture<ParticipationResultResponse> future = resultWaiters.register(promotionId, userId);
+		if (future == null) {
+			return CompletableFuture.completedFuture(getParticipationResult(promotionId, userId));
+		}
+
+		ParticipationResultResponse current;
+		try {
+			current = getParticipationResult(promotionId, userId);
+		} catch (RuntimeException e) {
+			future.cancel(false);
+			throw e;
+		}
+
+		if (current.status() != ParticipationStatus.PENDING) {
+			future.complete(current);
+		} else {
+			future.completeOnTimeout(current, waitTimeoutSeconds, TimeUnit.SECONDS);
+		}
+		return future;
+	}
+
+	/*
+	당첨자 목록 조회 (당첨 순번 커서 기반)
+	@param promotionId 프로모션 ID
+	@param cursor 이전 페이지의 마지막 당첨 순번 (null이면 처음부터)
+	@param size 페이지 크기 (최대 MAX_WINNER_PAGE_SIZE)
+	@return 당첨자 목록 페이지
+	 */
+	public WinnerPageResponse getWinners(UUID promotionId, Long cursor, int size) {
+		promotionCache.get(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
-		List<PromotionParticipation> winners = participationRepository
-			.findByPromotionAndStatusOrderByQueuePositionAsc(promotion, ParticipationStatus.WON);
+		int pageSize = Math.max(1, Math.min(size, MAX_WINNER_PAGE_SIZE));
+		List<WinnerListResponse> fetched = winnerQueryRepository.findPage(promotionId, cursor, pageSize + 1);
+		return WinnerPageResponse.of(fetched, pageSize);
+	}
+
+	/*
+	당첨자 내보내기 파일 이름 (프로모션 존재 여부 확인)
+	@param promotionId 프로모션 ID
+	@param format 내보내기 형식
+	@return 파일 이름
+	 */
+	public String getWinnerExportFileName(UUID promotionId, WinnerExportFormat format) {
+		promotionCache.get(promotionId)
+			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
+
+		return "winners-" + promotionId + "." + format.getExtension();
+	}
+
+	/*
+	당첨자 전체 내보내기 (DB 커서로 읽으면서 바로 출력, 당첨자 수와 무관하게 메모리 사용량 일정)
+	@param promotionId 프로모션 ID
+	@param format 내보내기 형식 (CSV / NDJSON)
+	@param outputStream 응답 스트림
+	 */
+	@Transactional(readOnly = true)
+	public void exportWinners(UUID promotionId, WinnerExportFormat format, OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+		if (format == WinnerExportFormat.CSV) {
+			writer.write("userId,queuePosition,participatedAt\n");
+		}
+
+		long[] count = {0};
+		try {
+			winnerQueryRepository.forEachWinner(promotionId, winner -> {
+				try {
+					writer.write(format == WinnerExportFormat.CSV ? toCsvLine(winner) : objectMapper.writeValueAsString(winner));
+					writer.write('\n');
+					count[0]++;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+		log.info("당첨자 내보내기 완료 - promotionId: {}, format: {}, count: {}", promotionId, format, count[0]);
+	}
 
-		return winners.stream()
-			.map(WinnerListResponse::from)
-			.toList();
+	private String toCsvLine(WinnerListResponse winner) {
+		return winner.userId() + "," + winner.queuePosition() + "," + winner.participatedAt();
 	}
 }
@@ -0,0 +1,118 @@
+package org.nextme.promotion_service.participation.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResult;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResultNotifier;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResultStore;
+import org.nextme.promotion_service.participation.presentation.dto.ParticipationResultResponse;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+참여 결과 대기 요청 레지스트리 (Pod별)
+- 결과를 기다리는 요청을 (프로모션, 사용자)별로 보관
+- 워커의 참여 결과 확정 알림 한 건으로 해당 배치의 대기 요청을 모두 완료 (결과는 한 번의 HMGET으로 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationResultWaiters {
+
+	private final ParticipationResultNotifier resultNotifier;
+	private final ParticipationResultStore resultStore;
+	private final PromotionCache promotionCache;
+
+	// Pod당 최대 대기 요청 수 (초과 시 대기하지 않고 현재 결과로 바로 응답)
+	@Value("${promotion.result.wait.max-waiters:50000}")
+	private int maxWaiters;
+
+	private final Map<WaiterKey, Queue<CompletableFuture<ParticipationResultResponse>>> waiters = new ConcurrentHashMap<>();
+
+	private final AtomicInteger waiterCount = new AtomicInteger();
+
+	@PostConstruct
+	void subscribe() {
+		resultNotifier.subscribe(this::onResults);
+	}
+
+	/*
+	결과 대기 등록 (완료되거나 시간 초과되면 자동 해제)
+	@param promotionId 프로모션 ID
+	@param userId 사용자 ID
+	@return 결과가 확정되면 완료되는 Future, 대기 요청이 가득 찼으면 null
+	 */
+	public CompletableFuture<ParticipationResultResponse> register(UUID promotionId, UUID userId) {
+		if (waiterCount.incrementAndGet() > maxWaiters) {
+			waiterCount.decrementAndGet();
+			return null;
+		}
+
+		WaiterKey key = new WaiterKey(promotionId, userId);
+		CompletableFuture<ParticipationResultResponse> future = new CompletableFuture<>();
+		waiters.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(future);
+		future.whenComplete((response, e) -> remove(key, future));
+		return future;
+	}
+
+	private void remove(WaiterKey key, CompletableFuture<ParticipationResultResponse> future) {
+		waiters.computeIfPresent(key, (k, queue) -> {
+			if (queue.remove(future)) {
+				waiterCount.decrementAndGet();
+			}
+			return queue.isEmpty() ? null : queue;
+		});
+	}
+
+	// 참여 결과 확정 알림 수신 (이 Pod에서 기다리는 사용자만 결과 조회)
+	private void onResults(UUID promotionId, List<UUID> userIds) {
+		if (waiterCount.get() == 0) {
+			return;
+		}
+
+		List<UUID> waiting = new ArrayList<>();
+		for (UUID userId : userIds) {
+			if (waiters.containsKey(new WaiterKey(promotionId, userId))) {
+				waiting.add(userId);
+			}
+		}
+		if (waiting.isEmpty()) {
+			return;
+		}
+
+		PromotionSnapshot promotion = promotionCache.get(promotionId).orElse(null);
+		if (promotion == null) {
+			return;
+		}
+
+		Map<UUID, ParticipationResult> results = resultStore.findAll(promotionId, waiting);
+		results.forEach((userId, result) -> {
+			Queue<CompletableFuture<ParticipationResultResponse>> queue = waiters.get(new WaiterKey(promotionId, userId));
+			if (queue == null) {
+				return;
+			}
+			ParticipationResultResponse response = ParticipationResultResponse.of(promotion, userId, result);
+			for (CompletableFuture<ParticipationResultResponse> future : queue) {
+				future.complete(response);
+			}
+		});
+		log.debug("참여 결과 대기 요청 완료 - promotionId: {}, count: {}", promotionId, results.size());
+	}
+
+	private record WaiterKey(UUID promotionId, UUID userId) {
+	}
+}
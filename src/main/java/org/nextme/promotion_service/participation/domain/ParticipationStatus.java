@@ -2,5 +2,6 @@ package org.nextme.promotion_service.participation.domain;
 
 public enum ParticipationStatus {
 	WON, 	// 당첨
-	LOST	// 탈락
+	LOST,	// 탈락
+	PENDING	// 대기열에서 처리 중 (결과 조회 응답 전용, 저장되지 않음)
 }
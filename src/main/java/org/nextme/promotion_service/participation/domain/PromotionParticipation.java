@@ -11,18 +11,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_promotion_participation")
+@Table(
+	name = "p_promotion_participation",
+	uniqueConstraints = @UniqueConstraint(name = "uk_participation_promotion_user", columnNames = {"promotion_id", "user_id"}),
+	indexes = @Index(name = "idx_participation_promotion_status_position", columnList = "promotion_id, status, queue_position")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PromotionParticipation extends BaseEntity {
@@ -33,7 +40,7 @@ public class PromotionParticipation extends BaseEntity {
 
 	// 참여한 프로모션
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "promotion_id", nullable = false)
+	@JoinColumn(name = "promotion_id", nullable = false, foreignKey = @ForeignKey(name = "fk_participation_promotion"))
 	private Promotion promotion;
 
 	// 참여한 사용자 ID
@@ -0,0 +1,130 @@
+package org.nextme.promotion_service.participation.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+참여 기록 일괄 저장 (워커 전용)
+- 엔티티 / 영속성 컨텍스트 / Hibernate ID 생성을 거치지 않고 여러 행을 한 번의 INSERT 문으로 저장
+- 같은 프로모션의 같은 사용자 기록이 이미 있으면 건너뜀 (재처리 시 멱등)
+- 워커는 모든 행을 탈락으로 먼저 저장하고, 새로 저장된 행에만 당첨 순번을 할당한 뒤 당첨으로 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipationBulkWriter {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.default_schema:promotionservice}")
+	private String schema;
+
+	// INSERT 문 하나에 담을 최대 행 수 (PostgreSQL 바인딩 파라미터 한도 65535 이내)
+	private static final int ROWS_PER_STATEMENT = 1000;
+
+	private static final String COLUMNS =
+		"(id, promotion_id, user_id, participated_at, queue_position, status, ip_address, user_agent, created_at, updated_at)";
+
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	/*
+	참여 기록 일괄 저장 (이미 있는 기록은 건너뜀)
+	@param rows 저장할 행
+	@return 새로 저장된 행의 사용자 ID
+	 */
+	public Set<UUID> insertIgnoringDuplicates(List<ParticipationRow> rows) {
+		Set<UUID> inserted = new HashSet<>(rows.size() * 2);
+		for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+			List<ParticipationRow> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+			inserted.addAll(insertChunk(chunk));
+		}
+		return inserted;
+	}
+
+	/*
+	당첨 처리 (같은 트랜잭션에서 탈락으로 저장한 행을 당첨 순번과 함께 갱신)
+	@param promotionId 프로모션 ID (파티션 선택)
+	@param winners 당첨 처리할 행 (당첨 순번 포함)
+	 */
+	public void markWinners(UUID promotionId, List<ParticipationRow> winners) {
+		if (winners.isEmpty()) {
+			return;
+		}
+
+		String sql = "UPDATE " + schema + ".p_promotion_participation p"
+			+ " SET status = ?, queue_position = v.queue_position, updated_at = ?"
+			+ " FROM unnest(?::uuid[], ?::bigint[]) AS v(id, queue_position)"
+			+ " WHERE p.promotion_id = ? AND p.id = v.id";
+
+		Object[] ids = new Object[winners.size()];
+		Object[] positions = new Object[winners.size()];
+		for (int i = 0; i < winners.size(); i++) {
+			ids[i] = winners.get(i).id();
+			positions[i] = winners.get(i).queuePosition();
+		}
+
+		jdbcTemplate.update(sql, ps -> {
+			ps.setString(1, ParticipationStatus.WON.name());
+			ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+			ps.setArray(3, ps.getConnection().createArrayOf("uuid", ids));
+			ps.setArray(4, ps.getConnection().createArrayOf("bigint", positions));
+			ps.setObject(5, promotionId);
+		});
+	}
+
+	private List<UUID> insertChunk(List<ParticipationRow> chunk) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		return jdbcTemplate.query(insertSql(chunk.size()), ps -> {
+			int index = 1;
+			for (ParticipationRow row : chunk) {
+				index = bind(ps, index, row, now);
+			}
+		}, (rs, rowNum) -> rs.getObject(1, UUID.class));
+	}
+
+	private int bind(PreparedStatement ps, int index, ParticipationRow row, Timestamp now) throws SQLException {
+		ps.setObject(index++, row.id());
+		ps.setObject(index++, row.promotionId());
+		ps.setObject(index++, row.userId());
+		ps.setTimestamp(index++, Timestamp.valueOf(row.participatedAt()));
+		if (row.queuePosition() != null) {
+			ps.setLong(index++, row.queuePosition());
+		} else {
+			ps.setNull(index++, Types.BIGINT);
+		}
+		ps.setString(index++, row.status().name());
+		ps.setString(index++, row.ipAddress());
+		ps.setString(index++, row.userAgent());
+		ps.setTimestamp(index++, now);
+		ps.setTimestamp(index++, now);
+		return index;
+	}
+
+	// INSERT ... VALUES (...), (...) ON CONFLICT DO NOTHING RETURNING user_id
+	private String insertSql(int rowCount) {
+		StringBuilder sql = new StringBuilder(128 + rowCount * (ROW_PLACEHOLDER.length() + 2))
+			.append("INSERT INTO ").append(schema).append(".p_promotion_participation ")
+			.append(COLUMNS)
+			.append(" VALUES ");
+		for (int i = 0; i < rowCount; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(ROW_PLACEHOLDER);
+		}
+		return sql.append(" ON CONFLICT DO NOTHING RETURNING user_id").toString();
+	}
+}
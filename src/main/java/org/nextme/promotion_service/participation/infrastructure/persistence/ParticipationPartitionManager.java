@@ -0,0 +1,55 @@
+package org.nextme.promotion_service.participation.infrastructure.persistence;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+참여 기록 파티션 관리 (p_promotion_participation은 프로모션 ID 기준 LIST 파티셔닝)
+- 파티션 이름 규칙과 생성/삭제 SQL은 마이그레이션(V3, V5)의 함수에 있음
+- DEFAULT 파티션이 없으므로 프로모션 시작 전에 파티션이 있어야 함 (생성 시 만들고 시작 시 다시 확인)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ParticipationPartitionManager {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.default_schema:promotionservice}")
+	private String schema;
+
+	/*
+	프로모션 파티션 생성 (별도 트랜잭션으로 실행해 부모 테이블 배타 잠금을 바로 해제, 이미 있으면 무시)
+	@param promotionId 프로모션 ID
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void createPartition(UUID promotionId) {
+		String partition = jdbcTemplate.queryForObject(
+			"SELECT " + schema + ".create_participation_partition(?)", String.class, promotionId);
+		log.info("참여 기록 파티션 준비 완료 - promotionId: {}, partition: {}", promotionId, partition);
+	}
+
+	/*
+	프로모션 파티션 삭제 (참여 기록을 행 단위 DELETE 없이 파티션째 삭제, 이미 없으면 무시)
+	@param promotionId 프로모션 ID
+	@return 삭제했으면 true
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean dropPartition(UUID promotionId) {
+		Boolean dropped = jdbcTemplate.queryForObject(
+			"SELECT " + schema + ".drop_participation_partition(?)", Boolean.class, promotionId);
+		if (Boolean.TRUE.equals(dropped)) {
+			log.info("참여 기록 파티션 삭제 완료 - promotionId: {}", promotionId);
+			return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,27 @@
+package org.nextme.promotion_service.participation.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+
+/*
+참여 결과 조회용 프로젝션 (결과 응답에 필요한 컬럼만 조회, 영속성 컨텍스트에 올라가지 않음)
+@param participationId 참여 기록 ID
+@param promotionId 프로모션 ID
+@param promotionName 프로모션 이름
+@param userId 사용자 ID
+@param status 참여 상태
+@param queuePosition 당첨 순번 (탈락 시 null)
+@param participatedAt 참여 시각
+ */
+public record ParticipationResultView(
+	UUID participationId,
+	UUID promotionId,
+	String promotionName,
+	UUID userId,
+	ParticipationStatus status,
+	Long queuePosition,
+	LocalDateTime participatedAt
+) {
+}
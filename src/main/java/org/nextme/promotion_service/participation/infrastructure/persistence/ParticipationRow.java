@@ -0,0 +1,42 @@
+package org.nextme.promotion_service.participation.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+
+/*
+참여 기록 일괄 저장용 행 (영속성 컨텍스트를 거치지 않음)
+@param id 참여 기록 ID
+@param promotionId 프로모션 ID
+@param userId 사용자 ID
+@param participatedAt 참여 시각
+@param queuePosition 당첨 순번 (탈락 시 null)
+@param status 참여 상태
+@param ipAddress 참여 시점의 IP 주소
+@param userAgent 참여 시점의 User-Agent
+ */
+public record ParticipationRow(
+	UUID id,
+	UUID promotionId,
+	UUID userId,
+	LocalDateTime participatedAt,
+	Long queuePosition,
+	ParticipationStatus status,
+	String ipAddress,
+	String userAgent
+) {
+	// 탈락자 행 생성
+	public static ParticipationRow loser(UUID promotionId, UUID userId, String ipAddress, String userAgent) {
+		return new ParticipationRow(UUID.randomUUID(), promotionId, userId, LocalDateTime.now(), null, ParticipationStatus.LOST, ipAddress, userAgent);
+	}
+
+	// 당첨 처리된 행 (탈락으로 먼저 저장한 뒤 당첨 순번을 할당받은 경우)
+	public ParticipationRow asWinner(long position) {
+		return new ParticipationRow(id, promotionId, userId, participatedAt, position, ParticipationStatus.WON, ipAddress, userAgent);
+	}
+
+	public boolean isWinner() {
+		return status == ParticipationStatus.WON;
+	}
+}
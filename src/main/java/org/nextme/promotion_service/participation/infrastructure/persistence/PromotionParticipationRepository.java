@@ -1,20 +1,22 @@
 package org.nextme.promotion_service.participation.infrastructure.persistence;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.nextme.promotion_service.participation.domain.ParticipationStatus;
 import org.nextme.promotion_service.participation.domain.PromotionParticipation;
-import org.nextme.promotion_service.promotion.domain.Promotion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PromotionParticipationRepository extends JpaRepository<PromotionParticipation, UUID> {
 
-	// 특정 프로모션의 특정 사용자 참여 기록 조회
-	Optional<PromotionParticipation> findByPromotionAndUserId(Promotion promotion, UUID userId);
-
-	// 특정 프로모션의 당첨자 목록 조회 (순번 순)
-	List<PromotionParticipation> findByPromotionAndStatusOrderByQueuePositionAsc(
-		Promotion promotion, ParticipationStatus status);
+	// 특정 프로모션의 특정 사용자 참여 결과 조회 (결과 응답에 필요한 컬럼만, 프로모션 이름은 조인으로 함께 조회)
+	@Query("""
+		SELECT new org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationResultView(
+			p.id, pr.id, pr.name, p.userId, p.status, p.queuePosition, p.participatedAt)
+		FROM PromotionParticipation p
+		JOIN p.promotion pr
+		WHERE pr.id = :promotionId AND p.userId = :userId
+		""")
+	Optional<ParticipationResultView> findResultView(@Param("promotionId") UUID promotionId, @Param("userId") UUID userId);
 }
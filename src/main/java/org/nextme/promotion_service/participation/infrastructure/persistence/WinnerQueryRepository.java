@@ -0,0 +1,77 @@
+package org.nextme.promotion_service.participation.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+import org.nextme.promotion_service.participation.presentation.dto.WinnerListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+당첨자 조회 (엔티티를 거치지 않고 필요한 컬럼만 조회)
+- 당첨 순번 기준 키셋 페이지네이션 : OFFSET 없이 (promotion_id, status, queue_position) 인덱스 범위 조회
+- 전체 내보내기 : JDBC 커서로 fetchSize 만큼씩 읽어 한 행씩 전달 (메모리 사용량이 당첨자 수와 무관)
+ */
+@Repository
+@RequiredArgsConstructor
+public class WinnerQueryRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${spring.jpa.properties.hibernate.default_schema:promotionservice}")
+	private String schema;
+
+	// 내보내기 시 한 번에 가져올 행 수
+	@Value("${promotion.winner-export.fetch-size:1000}")
+	private int fetchSize;
+
+	/*
+	당첨자 페이지 조회
+	@param promotionId 프로모션 ID
+	@param afterPosition 이 당첨 순번 다음부터 조회 (null이면 처음부터)
+	@param limit 최대 개수
+	@return 당첨 순번 순 당첨자
+	 */
+	public List<WinnerListResponse> findPage(UUID promotionId, Long afterPosition, int limit) {
+		return jdbcTemplate.query(winnerSql() + " AND queue_position > ? ORDER BY queue_position LIMIT ?",
+			(rs, rowNum) -> toResponse(rs),
+			promotionId, ParticipationStatus.WON.name(), afterPosition != null ? afterPosition : 0L, limit);
+	}
+
+	/*
+	전체 당첨자 순회 (커서 유지를 위해 호출한 쪽의 트랜잭션 안에서 실행)
+	@param promotionId 프로모션 ID
+	@param consumer 당첨 순번 순으로 한 행씩 전달받음
+	 */
+	public void forEachWinner(UUID promotionId, Consumer<WinnerListResponse> consumer) {
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(winnerSql() + " ORDER BY queue_position");
+			ps.setFetchSize(fetchSize);
+			ps.setObject(1, promotionId);
+			ps.setString(2, ParticipationStatus.WON.name());
+			return ps;
+		}, (RowCallbackHandler) rs -> consumer.accept(toResponse(rs)));
+	}
+
+	private String winnerSql() {
+		return "SELECT user_id, queue_position, participated_at FROM " + schema + ".p_promotion_participation"
+			+ " WHERE promotion_id = ? AND status = ?";
+	}
+
+	private WinnerListResponse toResponse(ResultSet rs) throws SQLException {
+		return new WinnerListResponse(
+			rs.getObject(1, UUID.class),
+			rs.getLong(2),
+			rs.getTimestamp(3).toLocalDateTime()
+		);
+	}
+}
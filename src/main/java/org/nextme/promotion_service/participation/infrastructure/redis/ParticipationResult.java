@@ -0,0 +1,99 @@
+package org.nextme.promotion_service.participation.infrastructure.redis;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationResultView;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationRow;
+
+/*
+Redis에 저장된 참여 결과
+저장 형식 (바이너리, 당첨자 약 10바이트 / 탈락자 약 7바이트)
+- 상태 (1바이트, 1 : 당첨, 0 : 탈락)
+- 참여 시각 epoch ms (가변 길이 정수)
+- 당첨 순번 (가변 길이 정수, 당첨자만)
+참여 기록 ID는 저장하지 않음 (필요하면 DB에서 조회)
+@param status 참여 상태 (WON / LOST)
+@param queuePosition 당첨 순번 (탈락 시 null)
+@param participatedAt 참여 시각
+ */
+public record ParticipationResult(
+	ParticipationStatus status,
+	Long queuePosition,
+	LocalDateTime participatedAt
+) {
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private static final byte LOST = 0;
+	private static final byte WON = 1;
+
+	public static ParticipationResult from(ParticipationRow row) {
+		return new ParticipationResult(row.status(), row.queuePosition(), row.participatedAt());
+	}
+
+	public static ParticipationResult from(ParticipationResultView view) {
+		return new ParticipationResult(view.status(), view.queuePosition(), view.participatedAt());
+	}
+
+	public byte[] encode() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+		boolean won = status == ParticipationStatus.WON;
+		out.write(won ? WON : LOST);
+		writeVarint(out, participatedAt.atZone(ZONE).toInstant().toEpochMilli());
+		if (won) {
+			writeVarint(out, queuePosition);
+		}
+		return out.toByteArray();
+	}
+
+	/*
+	저장된 값 복원
+	@param value 저장 형식 바이트 배열
+	@return 참여 결과
+	@throws IllegalArgumentException 형식이 잘못된 경우
+	 */
+	public static ParticipationResult decode(byte[] value) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(value);
+			byte status = buffer.get();
+			if (status != WON && status != LOST) {
+				throw new IllegalArgumentException("잘못된 참여 결과 상태: " + status);
+			}
+			LocalDateTime participatedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(readVarint(buffer)), ZONE);
+			Long queuePosition = status == WON ? readVarint(buffer) : null;
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException("참여 결과 뒤에 남은 데이터가 있습니다: " + buffer.remaining());
+			}
+			return new ParticipationResult(
+				status == WON ? ParticipationStatus.WON : ParticipationStatus.LOST, queuePosition, participatedAt);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("참여 결과 데이터가 잘렸습니다.", e);
+		}
+	}
+
+	// 7비트 단위 가변 길이 정수 (음수 불가)
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("가변 길이 정수 형식이 올바르지 않습니다.");
+	}
+}
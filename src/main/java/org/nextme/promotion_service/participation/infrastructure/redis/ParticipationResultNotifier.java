@@ -0,0 +1,75 @@
+package org.nextme.promotion_service.participation.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.nextme.promotion_service.promotion.infrastructure.redis.RedisKeyGenerator;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+참여 결과 확정 알림 (Redis Pub/Sub)
+- 워커가 배치의 참여 결과를 기록한 직후 배치당 한 번 발행
+- 메시지 형식 : {프로모션 ID}:{사용자 ID},{사용자 ID},...
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationResultNotifier {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	/*
+	참여 결과 확정 알림 구독
+	@param handler 프로모션 ID와 결과가 확정된 사용자 ID 목록 처리
+	 */
+	public void subscribe(BiConsumer<UUID, List<UUID>> handler) {
+		listenerContainer.addMessageListener((message, pattern) -> {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			try {
+				int separator = body.indexOf(':');
+				UUID promotionId = UUID.fromString(body.substring(0, separator));
+				String[] values = body.substring(separator + 1).split(",");
+				List<UUID> userIds = new ArrayList<>(values.length);
+				for (String value : values) {
+					userIds.add(UUID.fromString(value));
+				}
+				handler.accept(promotionId, userIds);
+			} catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+				log.warn("잘못된 참여 결과 알림 - length: {}", body.length());
+			}
+		}, new ChannelTopic(RedisKeyGenerator.PARTICIPATION_RESULT_CHANNEL));
+	}
+
+	/*
+	참여 결과 확정 알림 발행 (모든 Pod)
+	@param promotionId 프로모션 ID
+	@param userIds 결과가 확정된 사용자 ID
+	 */
+	public void publish(UUID promotionId, Collection<UUID> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		StringBuilder body = new StringBuilder(37 + userIds.size() * 37).append(promotionId).append(':');
+		boolean first = true;
+		for (UUID userId : userIds) {
+			if (!first) {
+				body.append(',');
+			}
+			body.append(userId);
+			first = false;
+		}
+		stringRedisTemplate.convertAndSend(RedisKeyGenerator.PARTICIPATION_RESULT_CHANNEL, body.toString());
+	}
+}
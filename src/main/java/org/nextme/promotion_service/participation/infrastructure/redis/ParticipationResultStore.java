@@ -0,0 +1,134 @@
+package org.nextme.promotion_service.participation.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationRow;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueBackend;
+import org.nextme.promotion_service.promotion.infrastructure.redis.RedisKeyGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+참여 결과 저장소 (프로모션별 Redis Hash, 사용자 ID 16바이트 -> 바이너리 참여 결과)
+- 워커가 참여 기록 커밋 직후 기록하고, 결과 조회는 DB 대신 HGET 한 번으로 응답
+- 필드와 값이 작아 참여자당 메모리가 적음 (참여자 Hash와 같은 16바이트 사용자 ID 필드)
+- 프로모션 종료 후 보관 기간이 지나면 만료되고, 이후 조회는 DB에서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationResultStore {
+
+	private final RedisTemplate<String, byte[]> queueRedisTemplate;
+
+	// 프로모션 종료 후 참여 결과 보관 기간 (일)
+	@Value("${promotion.result.retention-days:7}")
+	private long retentionDays;
+
+	/*
+	참여 결과 일괄 저장 (한 번의 파이프라인으로 HSET + 만료 시각 설정)
+	@param promotion 프로모션 스냅샷
+	@param rows 새로 저장된 참여 기록
+	 */
+	public void saveAll(PromotionSnapshot promotion, List<ParticipationRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		Map<byte[], byte[]> values = new HashMap<>(rows.size() * 2);
+		for (ParticipationRow row : rows) {
+			values.put(QueueBackend.memberField(row.userId()), ParticipationResult.from(row).encode());
+		}
+		putAll(promotion, values);
+	}
+
+	/*
+	참여 결과 저장 (Redis 결과 기록이 실패한 참여자를 DB 조회 결과로 복구)
+	@param promotion 프로모션 스냅샷
+	@param userId 사용자 ID
+	@param result 참여 결과
+	 */
+	public void save(PromotionSnapshot promotion, UUID userId, ParticipationResult result) {
+		putAll(promotion, Map.of(QueueBackend.memberField(userId), result.encode()));
+	}
+
+	// HSET + 만료 시각 설정 (한 번의 파이프라인)
+	private void putAll(PromotionSnapshot promotion, Map<byte[], byte[]> values) {
+		byte[] key = bytes(RedisKeyGenerator.resultKey(promotion.id()));
+		long expireAtMillis = promotion.endTime().plusDays(retentionDays)
+			.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+		queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.hashCommands().hMSet(key, values);
+			connection.keyCommands().pExpireAt(key, expireAtMillis);
+			return null;
+		});
+	}
+
+	/*
+	참여 결과 조회
+	@param promotionId 프로모션 ID
+	@param userId 사용자 ID
+	@return 참여 결과, 아직 결정되지 않았거나 보관 기간이 지났으면 empty
+	 */
+	public Optional<ParticipationResult> find(UUID promotionId, UUID userId) {
+		byte[] key = bytes(RedisKeyGenerator.resultKey(promotionId));
+		byte[] field = QueueBackend.memberField(userId);
+		byte[] value = queueRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.hashCommands().hGet(key, field));
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.of(ParticipationResult.decode(value));
+		} catch (IllegalArgumentException e) {
+			log.warn("잘못된 참여 결과 데이터 - promotionId: {}, userId: {}, error: {}", promotionId, userId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/*
+	여러 사용자의 참여 결과 조회 (HMGET 한 번)
+	@param promotionId 프로모션 ID
+	@param userIds 사용자 ID
+	@return 결과가 있는 사용자의 참여 결과
+	 */
+	public Map<UUID, ParticipationResult> findAll(UUID promotionId, List<UUID> userIds) {
+		byte[] key = bytes(RedisKeyGenerator.resultKey(promotionId));
+		byte[][] fields = new byte[userIds.size()][];
+		for (int i = 0; i < userIds.size(); i++) {
+			fields[i] = QueueBackend.memberField(userIds.get(i));
+		}
+		List<byte[]> values = queueRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.hashCommands().hMGet(key, fields));
+
+		Map<UUID, ParticipationResult> results = new HashMap<>(userIds.size() * 2);
+		for (int i = 0; i < userIds.size(); i++) {
+			byte[] value = values != null ? values.get(i) : null;
+			if (value == null) {
+				continue;
+			}
+			try {
+				results.put(userIds.get(i), ParticipationResult.decode(value));
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 참여 결과 데이터 - promotionId: {}, userId: {}, error: {}", promotionId, userIds.get(i), e.getMessage());
+			}
+		}
+		return results;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -1,20 +1,25 @@
 package org.nextme.promotion_service.participation.presentation;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.nextme.common.security.UserPrincipal;
 import org.nextme.infrastructure.success.CustomResponse;
 import org.nextme.promotion_service.participation.application.ParticipationQueryService;
 import org.nextme.promotion_service.participation.presentation.dto.ParticipationResultResponse;
-import org.nextme.promotion_service.participation.presentation.dto.WinnerListResponse;
+import org.nextme.promotion_service.participation.presentation.dto.WinnerExportFormat;
+import org.nextme.promotion_service.participation.presentation.dto.WinnerPageResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,18 +56,66 @@ public class ParticipationController {
 	}
 
 	/*
-	당첨자 목록 조회 API
+	참여 결과 대기 API (롱 폴링)
+	결과가 확정되는 즉시 응답하고, 대기 시간이 지나면 처리 중(PENDING) 상태로 응답 (클라이언트는 다시 요청)
 	@param promotionId 프로모션 ID
-	@return 당첨자 목록
+	@param userId 사용자 ID
+	@return 참여 결과
+	 */
+	@Operation(summary = "참여 결과 대기", description = "참여 결과가 확정될 때까지 연결을 유지하다가 결과를 응답합니다. 대기 시간이 지나면 PENDING 상태로 응답합니다.")
+	@GetMapping("/{promotionId}/participations/wait")
+	public CompletableFuture<ResponseEntity<CustomResponse<ParticipationResultResponse>>> awaitParticipationResult(
+		@Parameter(description = "프로모션 ID", required = true)
+		@PathVariable UUID promotionId,
+		@AuthenticationPrincipal UserPrincipal userPrincipal
+	) {
+		return participationQueryService.awaitParticipationResult(promotionId, UUID.fromString(userPrincipal.userId()))
+			.thenApply(response -> ResponseEntity.ok(CustomResponse.onSuccess(response)));
+	}
+
+	/*
+	당첨자 목록 조회 API (당첨 순번 커서 기반)
+	@param promotionId 프로모션 ID
+	@param cursor 이전 페이지의 마지막 당첨 순번
+	@param size 페이지 크기
+	@return 당첨자 목록 페이지
 	 */
 	@PreAuthorize("hasRole('MANAGER')")
-	@Operation(summary = "당첨자 목록 조회", description = "프로모션의 당첨자 목록을 당첨 순번 순으로 조회합니다.")
+	@Operation(summary = "당첨자 목록 조회", description = "프로모션의 당첨자 목록을 당첨 순번 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
 	@GetMapping("/{promotionId}/winners")
-	public ResponseEntity<CustomResponse<List<WinnerListResponse>>> getWinners(
+	public ResponseEntity<CustomResponse<WinnerPageResponse>> getWinners(
 		@Parameter(description = "프로모션 ID", required = true)
-		@PathVariable UUID promotionId
+		@PathVariable UUID promotionId,
+		@Parameter(description = "이전 페이지의 마지막 당첨 순번 (첫 페이지는 생략)")
+		@RequestParam(required = false) Long cursor,
+		@Parameter(description = "페이지 크기 (최대 1000)", example = "100")
+		@RequestParam(defaultValue = "100") int size
 	) {
-		List<WinnerListResponse> response = participationQueryService.getWinners(promotionId);
+		WinnerPageResponse response = participationQueryService.getWinners(promotionId, cursor, size);
 		return ResponseEntity.ok(CustomResponse.onSuccess(response));
 	}
+
+	/*
+	당첨자 전체 내보내기 API (CSV / NDJSON 스트리밍)
+	@param promotionId 프로모션 ID
+	@param format 내보내기 형식
+	@return 당첨자 파일
+	 */
+	@PreAuthorize("hasRole('MANAGER')")
+	@Operation(summary = "당첨자 내보내기", description = "프로모션의 전체 당첨자를 당첨 순번 순으로 CSV 또는 NDJSON 파일로 내려받습니다.")
+	@GetMapping("/{promotionId}/winners/export")
+	public ResponseEntity<StreamingResponseBody> exportWinners(
+		@Parameter(description = "프로모션 ID", required = true)
+		@PathVariable UUID promotionId,
+		@Parameter(description = "내보내기 형식 (CSV, NDJSON)")
+		@RequestParam(defaultValue = "CSV") WinnerExportFormat format
+	) {
+		String fileName = participationQueryService.getWinnerExportFileName(promotionId, format);
+		StreamingResponseBody body = outputStream -> participationQueryService.exportWinners(promotionId, format, outputStream);
+
+		return ResponseEntity.ok()
+			.contentType(format.getMediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+			.body(body);
+	}
 }
@@ -4,7 +4,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.nextme.promotion_service.participation.domain.ParticipationStatus;
-import org.nextme.promotion_service.participation.domain.PromotionParticipation;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationResultView;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResult;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
 
 // 참여 결과 응답 DTO
 public record ParticipationResultResponse(
@@ -17,20 +19,51 @@ public record ParticipationResultResponse(
 	LocalDateTime participatedAt,
 	String message
 ) {
-	public static ParticipationResultResponse from(PromotionParticipation participation) {
-		String message = participation.getStatus() == ParticipationStatus.WON
-			? String.format("축하합니다! %d번째 당첨자입니다.", participation.getQueuePosition())
-			: "아쉽게도 당첨되지 않았습니다.";
+	// DB 참여 결과 프로젝션으로 생성
+	public static ParticipationResultResponse from(ParticipationResultView participation) {
+		return new ParticipationResultResponse(
+			participation.participationId(),
+			participation.promotionId(),
+			participation.promotionName(),
+			participation.userId(),
+			participation.status(),
+			participation.queuePosition(),
+			participation.participatedAt(),
+			resultMessage(participation.status(), participation.queuePosition())
+		);
+	}
 
+	// Redis에 저장된 참여 결과로 생성 (Redis 결과에는 참여 기록 ID가 없으므로 null, DB 조회 결과에만 포함)
+	public static ParticipationResultResponse of(PromotionSnapshot promotion, UUID userId, ParticipationResult result) {
 		return new ParticipationResultResponse(
-			participation.getId(),
-			participation.getPromotion().getId(),
-			participation.getPromotion().getName(),
-			participation.getUserId(),
-			participation.getStatus(),
-			participation.getQueuePosition(),
-			participation.getParticipatedAt(),
-			message
+			null,
+			promotion.id(),
+			promotion.name(),
+			userId,
+			result.status(),
+			result.queuePosition(),
+			result.participatedAt(),
+			resultMessage(result.status(), result.queuePosition())
 		);
 	}
+
+	// 대기열에서 처리 중인 사용자
+	public static ParticipationResultResponse pending(PromotionSnapshot promotion, UUID userId) {
+		return new ParticipationResultResponse(
+			null,
+			promotion.id(),
+			promotion.name(),
+			userId,
+			ParticipationStatus.PENDING,
+			null,
+			null,
+			"참여 처리 중입니다. 잠시 후 다시 확인해주세요."
+		);
+	}
+
+	private static String resultMessage(ParticipationStatus status, Long queuePosition) {
+		return status == ParticipationStatus.WON
+			? String.format("축하합니다! %d번째 당첨자입니다.", queuePosition)
+			: "아쉽게도 당첨되지 않았습니다.";
+	}
 }
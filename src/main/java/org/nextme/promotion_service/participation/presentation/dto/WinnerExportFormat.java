@@ -0,0 +1,19 @@
+package org.nextme.promotion_service.participation.presentation.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 당첨자 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum WinnerExportFormat {
+	CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+	NDJSON(new MediaType("application", "x-ndjson"), "ndjson");
+
+	private final MediaType mediaType;
+	private final String extension;
+}
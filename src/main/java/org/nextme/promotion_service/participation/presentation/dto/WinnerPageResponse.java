@@ -0,0 +1,17 @@
+package org.nextme.promotion_service.participation.presentation.dto;
+
+import java.util.List;
+
+// 당첨자 목록 페이지 응답 DTO (당첨 순번 커서 기반)
+public record WinnerPageResponse(
+	List<WinnerListResponse> winners,
+	Long nextCursor,	// 다음 페이지 요청 시 전달할 커서 (마지막 당첨 순번, 다음 페이지가 없으면 null)
+	boolean hasNext
+) {
+	public static WinnerPageResponse of(List<WinnerListResponse> fetched, int size) {
+		boolean hasNext = fetched.size() > size;
+		List<WinnerListResponse> winners = hasNext ? fetched.subList(0, size) : fetched;
+		Long nextCursor = hasNext ? winners.get(winners.size() - 1).queuePosition() : null;
+		return new WinnerPageResponse(winners, nextCursor, hasNext);
+	}
+}
@@ -1,29 +1,36 @@
 package org.nextme.promotion_service.promotion.application;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.nextme.promotion_service.global.exception.PromotionErrorCode;
-import org.nextme.promotion_service.promotion.domain.Promotion;
-import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionCache;
+import org.nextme.promotion_service.promotion.infrastructure.cache.SoldOutRegistry;
 import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionQueueService;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueEntry;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueJoinResult;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueuePosition;
+import org.nextme.promotion_service.promotion.infrastructure.redis.UserAgentDictionary;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionJoinResponse;
+import org.nextme.promotion_service.promotion.presentation.dto.QueuePositionResponse;
 import org.springframework.stereotype.Service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PromotionParticipationService {
 
-	private final PromotionRepository promotionRepository;
+	private final PromotionCache promotionCache;
 	private final PromotionQueueService queueService;
-
-	// 대기열 최대 크기 = 선착순 인원 * 100
-	private static final int QUEUE_SIZE_MULTIPLIER = 100;
+	private final UserAgentDictionary userAgentDictionary;
+	private final SoldOutRegistry soldOutRegistry;
 
 	/*
 	프로모션 참여 처리
@@ -40,39 +47,103 @@ public class PromotionParticipationService {
 
 		log.info("프로모션 참여 요청 - promotionId: {}, userId: {}, ip: {}", promotionId, userId, ipAddress);
 
-		// 1. 프로모션 조회
-		Promotion promotion = promotionRepository.findById(promotionId)
+		// 1. 프로모션 조회 (로컬 캐시)
+		PromotionSnapshot promotion = promotionCache.get(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
-		// 2. 프로모션 참여 가능 여부 확인
+		// 2. 프로모션 참여 가능 여부 확인 (재고 소진 시 Redis 접근 없이 즉시 거절)
+		validateParticipation(promotion);
+
+		// 3. 중복 체크 + 대기열 크기 확인 + 대기열 등록 (Redis 스크립트로 원자적 처리)
+		QueueEntry entry = new QueueEntry(userId, ipAddress, userAgentDictionary.idOf(userAgent), System.currentTimeMillis());
+		QueueJoinResult result = queueService.join(promotion, entry);
+
+		// 4. 결과 응답
+		return toJoinResponse(promotionId, userId, result);
+	}
+
+	/*
+	프로모션 참여 처리 (논블로킹)
+	Redis 요청을 기다리는 동안 요청 스레드를 점유하지 않음
+	로컬 캐시에 없는 프로모션 조회(DB)만 별도 스레드에서 수행
+	@param promotionId 프로모션 ID
+	@param userId 사용자 ID
+	@param httpRequest HTTP 요청 (IP, User-Agent 추출용, 요청 스레드에서만 접근)
+	@return 참여 결과
+	 */
+	public CompletableFuture<PromotionJoinResponse> joinPromotionAsync(
+		UUID promotionId, UUID userId, HttpServletRequest httpRequest) {
+
+		String ipAddress = getClientIp(httpRequest);
+		String userAgent = httpRequest.getHeader("User-Agent");
+		long joinedAtMillis = System.currentTimeMillis();
+
+		log.info("프로모션 참여 요청 - promotionId: {}, userId: {}, ip: {}", promotionId, userId, ipAddress);
+
+		return loadPromotion(promotionId)
+			.flatMap(promotion -> {
+				validateParticipation(promotion);
+				return userAgentDictionary.idOfAsync(userAgent)
+					.map(userAgentId -> new QueueEntry(userId, ipAddress, userAgentId, joinedAtMillis))
+					.flatMap(entry -> queueService.joinAsync(promotion, entry));
+			})
+			.map(result -> toJoinResponse(promotionId, userId, result))
+			.toFuture();
+	}
+
+	// 프로모션 조회 (로컬 캐시에 있으면 즉시, 없으면 별도 스레드에서 DB 조회)
+	private Mono<PromotionSnapshot> loadPromotion(UUID promotionId) {
+		Mono<PromotionSnapshot> promotion = promotionCache.getIfPresent(promotionId)
+			.map(Mono::just)
+			.orElseGet(() -> Mono.fromCallable(() -> promotionCache.get(promotionId).orElse(null))
+				.subscribeOn(Schedulers.boundedElastic()));
+		return promotion.switchIfEmpty(Mono.error(PromotionErrorCode.PROMOTION_NOT_FOUND::toException));
+	}
+
+	// 프로모션 참여 가능 여부 확인
+	private void validateParticipation(PromotionSnapshot promotion) {
 		if (!promotion.canParticipate()) {
 			throw PromotionErrorCode.PROMOTION_NOT_AVAILABLE.toException();
 		}
+		if (soldOutRegistry.isSoldOut(promotion.id())) {
+			throw PromotionErrorCode.PROMOTION_SOLD_OUT.toException();
+		}
+	}
 
-		// 3. 중복 체크 + 참여 기록
-		boolean isNewParticipant = queueService.addToJoinedSet(promotionId, userId);
-		if (!isNewParticipant) {
+	// 대기열 진입 결과를 응답으로 변환 (중복 / 대기열 초과 / 재고 소진은 예외)
+	private PromotionJoinResponse toJoinResponse(UUID promotionId, UUID userId, QueueJoinResult result) {
+		if (result.status() == QueueJoinResult.Status.SOLD_OUT) {
+			// 재고 소진 알림을 받지 못한 경우 이후 요청은 메모리에서 거절
+			soldOutRegistry.markLocal(promotionId);
+			throw PromotionErrorCode.PROMOTION_SOLD_OUT.toException();
+		}
+		if (result.status() == QueueJoinResult.Status.DUPLICATE) {
 			throw PromotionErrorCode.PROMOTION_ALREADY_JOINED.toException();
 		}
-
-		// 4. 대기열 크기 확인
-		Long queueSize = queueService.getQueueSize(promotionId);
-		int maxQueueSize = promotion.getTotalStock() * QUEUE_SIZE_MULTIPLIER;
-
-		if (queueSize >= maxQueueSize) {
-			// 대기열 초과 시 롤백
-			queueService.removeFromJoinedSet(promotionId, userId);
+		if (result.status() == QueueJoinResult.Status.QUEUE_FULL) {
 			throw PromotionErrorCode.PROMOTION_QUEUE_FULL.toException();
 		}
 
-		// 5. 대기열 등록
-		String queueData = String.format("%s:%s:%s:%s", userId, ipAddress, userAgent, LocalDateTime.now());
-		queueService.enqueue(promotionId, queueData);
+		Long position = result.position();
+		log.info("프로모션 참여 성공 - promotionId: {}, userId: {}, position: {}, ticket: {}",
+			promotionId, userId, position, result.ticket());
+		return PromotionJoinResponse.success("대기열에 진입했습니다.", position, result.ticket());
+	}
+
+	/*
+	대기 순서 조회 (참여 순번 - 처리 완료 커서, Redis에서 O(1) 조회)
+	@param promotionId 프로모션 ID
+	@param userId 사용자 ID
+	@return 현재 대기 순서와 예상 대기 시간
+	 */
+	public QueuePositionResponse getQueuePosition(UUID promotionId, UUID userId) {
+		PromotionSnapshot promotion = promotionCache.get(promotionId)
+			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
+
+		QueuePosition position = queueService.getQueuePosition(promotion, userId)
+			.orElseThrow(PromotionErrorCode.PARTICIPATION_NOT_FOUND::toException);
 
-		// 6. 성공 응답
-		Long position = queueSize + 1;
-		log.info("프로모션 참여 성공 - promotionId: {}, userId: {}, position: {}", promotionId, userId, position);
-		return PromotionJoinResponse.success("대기열에 진입했습니다.", position);
+		return QueuePositionResponse.of(promotionId, position);
 	}
 
 	// 클라이언트 IP 주소 추출
@@ -1,19 +1,36 @@
 package org.nextme.promotion_service.promotion.application;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.nextme.promotion_service.global.exception.PromotionErrorCode;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationPartitionManager;
 import org.nextme.promotion_service.promotion.domain.Promotion;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
 import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.promotion.domain.event.PromotionStatusChangedEvent;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionCache;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionStatusCache;
+import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionCursor;
 import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
-import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionQueueService;
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionListVersion;
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionListVersions;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueCounters;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionCreateRequest;
+import org.nextme.promotion_service.promotion.presentation.dto.PromotionPageResponse;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionResponse;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionStatusResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,14 +41,28 @@ import lombok.extern.slf4j.Slf4j;
 public class PromotionService {
 
 	private final PromotionRepository promotionRepository;
-	private final PromotionQueueService queueService;
+	private final PromotionCache promotionCache;
+	private final PromotionStatusCache statusCache;
+	private final PromotionListVersions listVersions;
+	private final ParticipationPartitionManager partitionManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	// 프로모션 목록 페이지 최대 크기
+	private static final int MAX_PROMOTION_PAGE_SIZE = 100;
+
+	// 참여 현황 일괄 조회 최대 프로모션 수
+	@Value("${promotion.status.bulk-max-size:100}")
+	private int maxStatusBulkSize;
 
 	/*
 	프로모션 생성
+	프로모션 저장과 참여 기록 파티션 생성은 각각 짧은 트랜잭션으로 분리
+	- 파티션 생성은 부모 테이블에 배타 잠금을 걸므로 저장 트랜잭션이 끝날 때까지 참여 기록 조회/저장을 막지 않도록 함
+	- 파티션의 외래 키 검사는 p_promotion 잠금이 필요하므로 저장 트랜잭션 안에서 다른 연결로 만들면 서로 기다림
 	@param request 프로모션 생성 요청
 	@return 생성된 프로모션 정보
 	 */
-	@Transactional
 	public PromotionResponse createPromotion(PromotionCreateRequest request) {
 		Promotion promotion = Promotion.builder()
 			.name(request.name())
@@ -42,25 +73,67 @@ public class PromotionService {
 			.status(PromotionStatus.SCHEDULED)
 			.build();
 
-		Promotion saved = promotionRepository.save(promotion);
+		Promotion saved = transactionTemplate.execute(status -> {
+			Promotion created = promotionRepository.save(promotion);
+			eventPublisher.publishEvent(new PromotionStatusChangedEvent(created.getId(), null, created.getStatus()));
+			return created;
+		});
+
+		// 참여 기록 파티션 생성 (저장 커밋 후 별도 트랜잭션)
+		// 실패하면 프로모션 시작 시 다시 생성하고, 그때도 실패하면 시작하지 않음 (SCHEDULED 상태에서는 참여 기록이 없음)
+		try {
+			partitionManager.createPartition(saved.getId());
+		} catch (DataAccessException e) {
+			log.error("참여 기록 파티션 생성 실패 (시작 시 다시 생성) - promotionId: {}", saved.getId(), e);
+		}
 		log.info("프로모션 생성 완료 - id: {}, name: {}", saved.getId(), saved.getName());
 
 		return PromotionResponse.from(saved);
 	}
 
 	/*
-	프로모션 목록 조회 (상태별 필터링 가능)
+	프로모션 목록 조회 (상태별 필터링 가능, 최신순, (생성 시각, ID) 커서 기반)
+	전체 개수는 세지 않고 한 건을 더 조회해 다음 페이지 여부만 판단
 	@param status 프로모션 상태 (null이면 전체 조회)
-	@param pageable 페이징 정보
-	@return 프로모션 목록
+	@param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	@param size 페이지 크기
+	@return 프로모션 목록 페이지
 	 */
 	@Transactional(readOnly = true)
-	public Page<PromotionResponse> getPromotions(PromotionStatus status, Pageable pageable) {
-		Page<Promotion> promotions = (status != null)
-			? promotionRepository.findByStatus(status, pageable)
-			: promotionRepository.findAll(pageable);
+	public PromotionPageResponse getPromotions(PromotionStatus status, String cursor, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PROMOTION_PAGE_SIZE));
+		Limit limit = Limit.of(pageSize + 1);
+
+		List<Promotion> fetched;
+		if (cursor == null || cursor.isBlank()) {
+			fetched = (status != null)
+				? promotionRepository.findLatestByStatus(status, limit)
+				: promotionRepository.findLatest(limit);
+		} else {
+			PromotionCursor after = decodeCursor(cursor);
+			fetched = (status != null)
+				? promotionRepository.findLatestByStatusAfter(status, after.createdAt(), after.id(), limit)
+				: promotionRepository.findLatestAfter(after.createdAt(), after.id(), limit);
+		}
+
+		return PromotionPageResponse.of(fetched, pageSize);
+	}
+
+	/*
+	프로모션 목록 버전 조회 (목록 조회 ETag / Last-Modified 용, DB 조회 없음)
+	@param status 프로모션 상태 (null이면 전체 목록)
+	@return 목록 버전, 조회할 수 없으면 empty
+	 */
+	public Optional<PromotionListVersion> getPromotionListVersion(PromotionStatus status) {
+		return listVersions.current(status);
+	}
 
-		return promotions.map(PromotionResponse::from);
+	private static PromotionCursor decodeCursor(String cursor) {
+		try {
+			return PromotionCursor.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw PromotionErrorCode.PROMOTION_INVALID_CURSOR.toException();
+		}
 	}
 
 	/*
@@ -78,15 +151,26 @@ public class PromotionService {
 
 	/*
 	프로모션 시작
+	참여 기록 파티션이 없으면 먼저 만들고, 만들 수 없으면 시작하지 않음 (파티션 없이 참여 기록을 저장할 곳이 없음)
 	@param promotionId 프로모션 ID
 	@return 시작된 프로모션 정보
 	 */
 	@Transactional
 	public PromotionResponse startPromotion(UUID promotionId) {
+		// 이 트랜잭션이 p_promotion을 잠그기 전에 별도 트랜잭션으로 확인 (이미 있으면 조회만 함)
+		try {
+			partitionManager.createPartition(promotionId);
+		} catch (DataAccessException e) {
+			log.error("참여 기록 파티션 생성 실패로 시작 불가 - promotionId: {}", promotionId, e);
+			throw PromotionErrorCode.PROMOTION_PARTITION_UNAVAILABLE.toException();
+		}
+
 		Promotion promotion = promotionRepository.findById(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
+		PromotionStatus previousStatus = promotion.getStatus();
 		promotion.start();
+		eventPublisher.publishEvent(new PromotionStatusChangedEvent(promotion.getId(), previousStatus, promotion.getStatus()));
 		log.info("프로모션 시작 - id: {}, name: {}", promotion.getId(), promotion.getName());
 
 		return PromotionResponse.from(promotion);
@@ -102,7 +186,9 @@ public class PromotionService {
 		Promotion promotion = promotionRepository.findById(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
+		PromotionStatus previousStatus = promotion.getStatus();
 		promotion.end();
+		eventPublisher.publishEvent(new PromotionStatusChangedEvent(promotion.getId(), previousStatus, promotion.getStatus()));
 		log.info("프로모션 종료 - id: {}, name: {}", promotion.getId(), promotion.getName());
 
 		return PromotionResponse.from(promotion);
@@ -110,24 +196,40 @@ public class PromotionService {
 
 	/*
 	프로모션 참여 현황 조회
+	프로모션 정보는 로컬 캐시, 카운터는 짧은 주기 스냅샷에서 조회 (DB 조회 없음, Redis는 한 번의 파이프라인)
 	@param promotionId 프로모션 ID
 	@return 참여 현황 정보
 	 */
-	@Transactional(readOnly = true)
 	public PromotionStatusResponse getPromotionStatus(UUID promotionId) {
-		Promotion promotion = promotionRepository.findById(promotionId)
+		PromotionSnapshot promotion = promotionCache.get(promotionId)
 			.orElseThrow(PromotionErrorCode.PROMOTION_NOT_FOUND::toException);
 
-		// Redis에서 현황 조회
-		Long queueSize = queueService.getQueueSize(promotionId);
-		Long participantCount = queueService.getParticipantCount(promotionId);
-		Long winnerCount = queueService.getWinnerCount(promotionId);
-
-		return PromotionStatusResponse.of(
-			queueSize,
-			participantCount,
-			winnerCount,
-			promotion.getTotalStock()
-		);
+		return PromotionStatusResponse.of(promotionId, statusCache.get(promotionId), promotion.totalStock());
+	}
+
+	/*
+	프로모션 참여 현황 일괄 조회 (대시보드용)
+	@param promotionIds 프로모션 ID (존재하지 않는 프로모션은 결과에서 제외)
+	@return 요청 순서대로 정렬된 참여 현황 정보
+	 */
+	public List<PromotionStatusResponse> getPromotionStatuses(List<UUID> promotionIds) {
+		if (promotionIds.size() > maxStatusBulkSize) {
+			throw PromotionErrorCode.PROMOTION_STATUS_TOO_MANY_IDS.toException(
+				"한 번에 조회할 수 있는 프로모션은 최대 " + maxStatusBulkSize + "개입니다.");
+		}
+
+		Map<UUID, PromotionSnapshot> promotions = new LinkedHashMap<>();
+		for (UUID promotionId : promotionIds) {
+			promotionCache.get(promotionId).ifPresent(promotion -> promotions.put(promotionId, promotion));
+		}
+		if (promotions.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, QueueCounters> counters = statusCache.getAll(new ArrayList<>(promotions.keySet()));
+		List<PromotionStatusResponse> responses = new ArrayList<>(promotions.size());
+		promotions.forEach((promotionId, promotion) ->
+			responses.add(PromotionStatusResponse.of(promotionId, counters.get(promotionId), promotion.totalStock())));
+		return responses;
 	}
 }
@@ -1,27 +1,53 @@
 package org.nextme.promotion_service.promotion.application;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-import org.nextme.promotion_service.participation.domain.PromotionParticipation;
-import org.nextme.promotion_service.participation.infrastructure.persistence.PromotionParticipationRepository;
-import org.nextme.promotion_service.promotion.domain.Promotion;
-import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationBulkWriter;
+import org.nextme.promotion_service.participation.infrastructure.persistence.ParticipationRow;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResultNotifier;
+import org.nextme.promotion_service.participation.infrastructure.redis.ParticipationResultStore;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerBatchEvent;
 import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerEvent;
-import org.nextme.promotion_service.promotion.infrastructure.event.PromotionEventPublisher;
-import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.nextme.promotion_service.promotion.infrastructure.cache.ActivePromotionRegistry;
+import org.nextme.promotion_service.promotion.infrastructure.cache.PromotionCache;
+import org.nextme.promotion_service.promotion.infrastructure.cache.SoldOutRegistry;
+import org.nextme.promotion_service.promotion.infrastructure.event.PromotionOutbox;
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionLeaseManager;
 import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionQueueService;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueEntry;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueMessage;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueWakeUpNotifier;
+import org.nextme.promotion_service.promotion.infrastructure.redis.UserAgentDictionary;
+import org.nextme.promotion_service.promotion.infrastructure.redis.WinnerSlots;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /*
 프로모션 대기열 처리 워커
-주기적으로 Redis 대기열에서 데이터를 꺼내 처리
+참여 스크립트의 깨우기 알림을 받으면 바로 Redis 대기열에서 데이터를 꺼내 처리 (알림 유실 대비 주기 점검)
+프로모션마다 별도 작업으로 병렬 처리하고, 배치마다 짧은 트랜잭션을 사용해 느린 프로모션이 다른 프로모션을 막지 않음
  */
 @Slf4j
 @Component
@@ -29,104 +55,508 @@ import lombok.extern.slf4j.Slf4j;
 public class PromotionWorker {
 
 	private final PromotionQueueService queueService;
-	private final PromotionRepository promotionRepository;
-	private final PromotionParticipationRepository participationRepository;
-	private final PromotionEventPublisher eventPublisher;
+	private final PromotionCache promotionCache;
+	private final ActivePromotionRegistry activePromotionRegistry;
+	private final QueueWakeUpNotifier wakeUpNotifier;
+	private final ParticipationBulkWriter participationBulkWriter;
+	private final PromotionOutbox outbox;
+	private final ParticipationResultStore resultStore;
+	private final ParticipationResultNotifier resultNotifier;
+	private final UserAgentDictionary userAgentDictionary;
+	private final SoldOutRegistry soldOutRegistry;
 
-	// 배치 크기
-	private static final int BATCH_SIZE = 100;
+	private final TransactionTemplate transactionTemplate;
+	private final PromotionLeaseManager leaseManager;
 
-	// 대기열 처리 스케줄러
-	@Scheduled(fixedRate = 1000)
-	@Transactional
+	// 최소 배치 크기 (배치 크기 조절 하한, 처음 시작하는 배치 크기)
+	@Value("${promotion.worker.min-batch-size:100}")
+	private int minBatchSize;
+
+	// 최대 배치 크기 (배치 크기 조절 상한)
+	@Value("${promotion.worker.max-batch-size:2000}")
+	private int maxBatchSize;
+
+	// 배치 하나(꺼내기 + 판정 + 저장 + 커밋)의 목표 처리 시간 (초과 시 배치 축소)
+	@Value("${promotion.worker.target-batch-millis:200}")
+	private long targetBatchMillis;
+
+	// 대기열이 남아 있는데 꺼낼 항목이 없을 때 다시 시도하기 전 대기 시간
+	@Value("${promotion.worker.idle-retry-millis:20}")
+	private long idleRetryMillis;
+
+	// 동시에 처리할 최대 프로모션 수 (0 이하이면 CPU 코어 수)
+	@Value("${promotion.worker.concurrency:0}")
+	private int concurrency;
+
+	// 당첨 이벤트 형식 (single: 당첨자별 JSON 메시지, batch: 배치별 바이너리 메시지 1건)
+	@Value("${promotion.winner-event.format:single}")
+	private String winnerEventFormat;
+
+	// 프로모션별 처리 작업 실행기 (가상 스레드, 동시 실행 수 제한)
+	private ExecutorService drainExecutor;
+
+	// 처리 작업이 실행 중인 프로모션 (프로모션당 작업 하나만 실행)
+	private final Set<UUID> draining = ConcurrentHashMap.newKeySet();
+
+	// 프로모션별 현재 배치 크기 (직전 배치 처리 시간으로 조절)
+	private final Map<UUID, Integer> batchSizes = new ConcurrentHashMap<>();
+
+	// 처리 작업 실행 중이거나 Pod당 처리 몫을 넘어 미뤄 둔 깨우기 알림 (작업이 끝나면 다시 실행)
+	private final Set<UUID> pendingWakeUps = ConcurrentHashMap.newKeySet();
+
+	// 프로모션별 처리 속도 (초당 처리 건수, 지수 이동 평균)
+	private final Map<UUID, Double> drainRates = new ConcurrentHashMap<>();
+
+	// 처리 속도 이동 평균에서 최신 배치의 가중치
+	private static final double DRAIN_RATE_WEIGHT = 0.3;
+
+	// 배치 처리 결과: 프로모션을 찾을 수 없음 (처리 작업 종료)
+	private static final int PROMOTION_NOT_FOUND = -1;
+
+	// 살아 있는 워커 Pod 수 (점검 주기마다 갱신)
+	private volatile long liveWorkers = 1L;
+
+	// 처리 임대를 잃어 배치를 처리하지 못함 (배치 트랜잭션 롤백용)
+	static class LeaseLostException extends RuntimeException {
+		LeaseLostException() {
+			super(null, null, false, false);
+		}
+	}
+
+	@PostConstruct
+	void startExecutor() {
+		int threads = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+		drainExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(), Thread.ofVirtual().name("promotion-worker-", 0).factory());
+		log.info("프로모션 워커 실행기 시작 - concurrency: {}", threads);
+
+		wakeUpNotifier.subscribe(this::wakeUp);
+	}
+
+	@PreDestroy
+	void stopExecutor() throws InterruptedException {
+		drainExecutor.shutdown();
+		if (!drainExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+			drainExecutor.shutdownNow();
+		}
+	}
+
+	/*
+	대기열 점검 스케줄러 (깨우기 알림 유실 대비, 워커 하트비트)
+	평소에는 참여 스크립트의 깨우기 알림으로 바로 처리되므로 긴 주기로 실행
+	진행 중인 프로모션 목록은 메모리에서 조회 (DB 조회 없음)
+	 */
+	@Scheduled(fixedDelayString = "${promotion.worker.sweep-interval-millis:5000}")
 	public void processQueue() {
-		// ACTIVE 상태의 모든 프로모션 조회
-		List<Promotion> activePromotions = promotionRepository.findByStatus(PromotionStatus.ACTIVE);
+		liveWorkers = leaseManager.heartbeat();
+
+		List<UUID> activePromotions = activePromotionRegistry.activeIds();
+		batchSizes.keySet().retainAll(activePromotions);
+		drainRates.keySet().retainAll(activePromotions);
+
+		// 각 프로모션의 큐 처리 (이전 작업이 아직 실행 중인 프로모션은 건너뜀)
+		for (UUID promotionId : activePromotions) {
+			submit(promotionId, false);
+		}
+	}
+
+	// 깨우기 알림 수신 (빈 대기열에 첫 참여, 또는 다른 Pod가 대기열을 남기고 임대 반납)
+	private void wakeUp(UUID promotionId) {
+		if (activePromotionRegistry.isActive(promotionId)) {
+			submit(promotionId, true);
+		}
+	}
+
+	/*
+	프로모션 처리 작업 등록 (실행기에 맡기고 바로 반환)
+	@param promotionId 프로모션 ID
+	@param wakeUp 깨우기 알림으로 등록하는지 여부 (이미 실행 중이면 종료 후 다시 실행)
+	 */
+	private void submit(UUID promotionId, boolean wakeUp) {
+		// Pod당 처리할 프로모션 수 (Pod가 늘거나 줄면 임대를 반납 / 획득하며 재분배)
+		long activeCount = Math.max(1, activePromotionRegistry.activeIds().size());
+		long fairShare = (activeCount + liveWorkers - 1) / liveWorkers;
 
-		if (activePromotions.isEmpty()) {
+		if (!draining.add(promotionId)) {
+			if (wakeUp) {
+				pendingWakeUps.add(promotionId);
+			}
+			return;
+		}
+		if (draining.size() > fairShare) {
+			draining.remove(promotionId);
+			// 깨우기 알림은 기록해 두고 이 Pod의 다른 작업이 끝나면 처리 (다음 점검 주기까지 기다리지 않음)
+			if (wakeUp) {
+				pendingWakeUps.add(promotionId);
+			}
 			return;
 		}
+		try {
+			drainExecutor.execute(() -> drain(promotionId));
+		} catch (RejectedExecutionException e) {
+			draining.remove(promotionId);
+			log.warn("프로모션 큐 처리 작업 등록 실패 - promotionId: {}", promotionId);
+		}
+	}
 
-		log.debug("활성 프로모션 {} 개 처리 시작", activePromotions.size());
+	/*
+	프로모션 대기열이 빌 때까지 배치 단위로 처리 (배치마다 별도 트랜잭션, 배치 크기는 대기 인원과 처리 시간으로 조절)
+	처리 임대를 얻은 Pod만 처리하고, 배치마다 임대를 갱신하며, 한 번에 최대 임대 시간의 절반까지만 처리한 뒤 반납
+	 */
+	private void drain(UUID promotionId) {
+		int batchSize = batchSizes.getOrDefault(promotionId, minBatchSize);
+		boolean leased = false;
+		long backlog = 0L;
+		try {
+			backlog = queueService.getQueueSize(promotionId);
+			if (backlog == 0) {
+				return;
+			}
 
-		// 각 프로모션의 큐 처리
-		for (Promotion promotion : activePromotions) {
-			try {
-				Long queueSize = queueService.getQueueSize(promotion.getId());
-				if (queueSize > 0) {
-					log.debug("프로모션 {} 큐 처리 - 대기 {}명", promotion.getName(), queueSize);
-					processPromotionQueue(promotion.getId());
+			// 다른 Pod가 처리 중이면 건너뜀
+			OptionalLong lease = leaseManager.acquire(promotionId);
+			if (lease.isEmpty()) {
+				return;
+			}
+			leased = true;
+			long token = lease.getAsLong();
+			long deadline = System.currentTimeMillis() + leaseManager.sliceMillis();
+			log.debug("프로모션 큐 처리 - promotionId: {}, 대기 {}명, 배치 크기: {}, token: {}", promotionId, backlog, batchSize, token);
+
+			boolean first = true;
+			while (backlog > 0 && !drainExecutor.isShutdown() && System.currentTimeMillis() < deadline) {
+				// 하트비트 (임대를 잃었으면 중단)
+				if (!first && !leaseManager.renew(promotionId, token)) {
+					break;
 				}
-			} catch (Exception e) {
-				log.error("프로모션 큐 처리 중 오류 - promotionId: {}, error: {}", promotion.getId(), e.getMessage(), e);
+				first = false;
+
+				int requested = (int) Math.min(batchSize, backlog);
+
+				long startedAt = System.nanoTime();
+				Integer processed;
+				try {
+					processed = transactionTemplate.execute(status -> processPromotionQueue(promotionId, requested, token));
+				} catch (LeaseLostException e) {
+					break;
+				}
+				long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+				if (processed == null) {
+					break;
+				}
+				if (processed == PROMOTION_NOT_FOUND) {
+					// 삭제되었거나 조회할 수 없는 프로모션은 기다려도 처리할 수 없으므로 종료 (다음 점검 주기에 다시 확인)
+					backlog = 0;
+					break;
+				}
+				if (processed == 0) {
+					// 대기열이 남아 있는데 꺼낸 항목이 없으면 (형식이 잘못된 항목만 읽었거나 다른 Pod가 처리 완료 중) 잠시 후 다시 시도
+					backlog = queueService.getQueueSize(promotionId);
+					if (backlog > 0) {
+						TimeUnit.MILLISECONDS.sleep(idleRetryMillis);
+					}
+					continue;
+				}
+				batchSize = nextBatchSize(batchSize, processed >= requested, elapsedMillis);
+				recordDrainRate(promotionId, processed, elapsedMillis);
+
+				// 요청보다 적게 꺼내도 대기열이 빈 것은 아님 (스트림은 미확인 항목부터 읽고, 형식이 잘못된 항목은 건너뜀)
+				backlog = queueService.getQueueSize(promotionId);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("프로모션 큐 처리 중 오류 - promotionId: {}, error: {}", promotionId, e.getMessage(), e);
+		} finally {
+			if (leased) {
+				releaseLease(promotionId);
 			}
+			batchSizes.put(promotionId, batchSize);
+			draining.remove(promotionId);
 		}
+
+		// 대기열을 남기고 임대를 반납했으면 모든 Pod를 깨워 다음 소유자가 이어서 처리
+		if (leased && backlog > 0 && !drainExecutor.isShutdown()) {
+			wakeUpNotifier.publish(promotionId);
+		} else if (pendingWakeUps.remove(promotionId)) {
+			submit(promotionId, false);
+		}
+		resumeDeferredWakeUp();
 	}
 
-	public void processPromotionQueue(UUID promotionId) {
-		// 1. 프로모션 조회
-		Promotion promotion = promotionRepository.findById(promotionId)
+	// 처리 몫을 넘어 미뤄 둔 다른 프로모션의 깨우기 알림 하나를 이어서 처리 (작업이 끝나 자리가 생김)
+	private void resumeDeferredWakeUp() {
+		for (UUID promotionId : pendingWakeUps) {
+			if (!draining.contains(promotionId) && pendingWakeUps.remove(promotionId)) {
+				submit(promotionId, true);
+				return;
+			}
+		}
+	}
+
+	private void releaseLease(UUID promotionId) {
+		try {
+			leaseManager.release(promotionId);
+		} catch (Exception e) {
+			// 반납하지 못한 임대는 임대 시간이 지나면 만료됨
+			log.warn("프로모션 처리 임대 반납 실패 - promotionId: {}, error: {}", promotionId, e.getMessage());
+		}
+	}
+
+	/*
+	다음 배치 크기 계산
+	- 목표 처리 시간 초과 : 절반으로 축소
+	- 가득 찬 배치가 목표의 절반 이내에 끝남 : 두 배로 확대
+	@param batchSize 현재 배치 크기
+	@param full 요청한 만큼 꺼냈는지 여부 (대기열이 더 남아 있음)
+	@param elapsedMillis 배치 처리 시간
+	@return 다음 배치 크기 (최소 ~ 최대 배치 크기 범위)
+	 */
+	private int nextBatchSize(int batchSize, boolean full, long elapsedMillis) {
+		if (elapsedMillis > targetBatchMillis) {
+			return Math.max(minBatchSize, batchSize / 2);
+		}
+		if (full && elapsedMillis * 2 <= targetBatchMillis) {
+			return Math.min(maxBatchSize, batchSize * 2);
+		}
+		return batchSize;
+	}
+
+	/*
+	프로모션 대기열 한 배치 처리 (호출한 쪽의 트랜잭션 안에서 실행)
+	모든 항목을 탈락으로 먼저 저장하고, 새로 저장된 항목에만 당첨 순번을 할당 (중복 / 재전달 항목은 재고를 쓰지 않음)
+	트랜잭션이 롤백되면 꺼낸 항목을 대기열로 되돌리고 할당받은 당첨 순번을 반환
+	@param promotionId 프로모션 ID
+	@param batchSize 꺼낼 최대 항목 수
+	@param fenceToken 처리 임대 펜싱 토큰
+	@return 대기열에서 꺼낸 항목 수, 프로모션을 찾을 수 없으면 PROMOTION_NOT_FOUND
+	@throws LeaseLostException 처리 임대를 잃은 경우 (트랜잭션 롤백)
+	 */
+	public int processPromotionQueue(UUID promotionId, int batchSize, long fenceToken) {
+		// 1. 프로모션 조회 (로컬 캐시)
+		PromotionSnapshot promotion = promotionCache.get(promotionId)
 			.orElse(null);
 
 		if (promotion == null) {
 			log.warn("프로모션을 찾을 수 없음 - promotionId: {}", promotionId);
+			return PROMOTION_NOT_FOUND;
+		}
+
+		// 큐에서 데이터 일괄 꺼내기
+		List<QueueMessage> messages = queueService.dequeue(promotionId, batchSize);
+		if (messages.isEmpty()) {
+			return 0;
+		}
+
+		// 롤백되면 꺼낸 항목을 되돌림 (새로 저장된 기록이 없으므로 다음 배치 또는 새 소유자가 처리)
+		requeueAfterRollback(promotionId, messages);
+
+		// 2. 모든 항목을 탈락으로 저장 (이미 기록된 사용자는 건너뜀)
+		List<ParticipationRow> batch = new ArrayList<>(messages.size());
+		List<String> messageIds = new ArrayList<>();
+		for (QueueMessage message : messages) {
+			if (message.id() != null) {
+				messageIds.add(message.id());
+			}
+
+			QueueEntry entry = message.entry();
+			String userAgent = userAgentDictionary.valueOf(entry.userAgentId());
+			batch.add(ParticipationRow.loser(promotionId, entry.userId(), entry.ipAddress(), userAgent));
+		}
+
+		Set<UUID> inserted = participationBulkWriter.insertIgnoringDuplicates(batch);
+		List<ParticipationRow> insertedRows = new ArrayList<>(inserted.size());
+		for (ParticipationRow row : batch) {
+			// 같은 사용자가 배치에 두 번 있어도 실제 저장된 행 하나만 반영
+			if (inserted.remove(row.userId())) {
+				insertedRows.add(row);
+			}
+		}
+		log.info("배치 저장 완료 - promotionId: {}, count: {}, skipped: {}", promotionId, insertedRows.size(), batch.size() - insertedRows.size());
+
+		// 3. 선착순 판단 (새로 저장된 항목 수만큼 당첨 순번 구간을 원자적으로 확보)
+		WinnerSlots slots = insertedRows.isEmpty()
+			? WinnerSlots.none()
+			: queueService.allocateWinners(promotion, insertedRows.size(), fenceToken);
+
+		// 임대가 다른 Pod로 넘어갔으면 롤백 (꺼낸 항목은 롤백 후 대기열로 되돌아가 새 소유자가 처리)
+		if (slots.leaseLost()) {
+			log.warn("프로모션 처리 임대 상실로 배치 반환 - promotionId: {}, count: {}", promotionId, messages.size());
+			throw new LeaseLostException();
+		}
+		releaseWinnersAfterRollback(promotionId, slots, fenceToken);
+
+		// 당첨 처리 (대기열 순서대로 앞에서부터 당첨, 같은 트랜잭션에서 갱신)
+		List<ParticipationRow> winners = new ArrayList<>(slots.count());
+		for (int i = 0; i < insertedRows.size() && slots.isWinner(i); i++) {
+			ParticipationRow winner = insertedRows.get(i).asWinner(slots.positionOf(i));
+			insertedRows.set(i, winner);
+			winners.add(winner);
+			log.info("당첨 - promotionId: {}, userId: {}, position: {}", promotionId, winner.userId(), winner.queuePosition());
+		}
+		participationBulkWriter.markWinners(promotionId, winners);
+
+		// 당첨 이벤트 저장 (같은 트랜잭션의 아웃박스에 저장 후 릴레이가 발행)
+		appendWinnerEvents(promotion, winners);
+
+		// 4. 대기열 처리 완료 (참여 기록 커밋 이후, 알림보다 먼저 실행하고 각 작업의 실패가 다른 작업을 막지 않음)
+		acknowledgeAfterCommit(promotionId, messageIds);
+		markDrainedAfterCommit(promotion, messages);
+
+		// 참여 결과 기록 (커밋 이후, 결과 조회 API가 DB 대신 사용)
+		saveResultsAfterCommit(promotion, insertedRows);
+
+		// 마지막 재고가 할당되면 커밋 이후 모든 Pod에 재고 소진 전파 (이후 참여 요청은 대기열에 들어오지 않음)
+		if (slots.soldOut()) {
+			runAfterCommit("재고 소진 전파", promotionId, () -> {
+				queueService.markSoldOut(promotion);
+				soldOutRegistry.publish(promotionId);
+			});
+		}
+		return messages.size();
+	}
+
+	// 당첨 이벤트 아웃박스 저장 (설정한 형식에 따라 당첨자별 또는 배치별)
+	private void appendWinnerEvents(PromotionSnapshot promotion, List<ParticipationRow> winners) {
+		if (winners.isEmpty()) {
 			return;
 		}
 
-		// 2. 배치 처리
-		List<PromotionParticipation> batch = new ArrayList<>();
+		if ("batch".equalsIgnoreCase(winnerEventFormat)) {
+			LocalDateTime wonAt = LocalDateTime.now();
+			List<PromotionWinnerBatchEvent.Winner> batchWinners = new ArrayList<>(winners.size());
+			for (ParticipationRow row : winners) {
+				batchWinners.add(new PromotionWinnerBatchEvent.Winner(row.userId(), row.queuePosition(), wonAt));
+			}
+			outbox.appendWinnerBatchEvent(
+				new PromotionWinnerBatchEvent(promotion.id(), promotion.name(), promotion.pointAmount(), batchWinners));
+			return;
+		}
 
-		for (int i = 0; i < BATCH_SIZE; i++) {
-			// 큐에서 데이터 꺼내기
-			String queueData = queueService.dequeue(promotionId);
+		List<PromotionWinnerEvent> events = new ArrayList<>(winners.size());
+		for (ParticipationRow row : winners) {
+			events.add(PromotionWinnerEvent.of(
+				promotion.id(),
+				promotion.name(),
+				row.userId(),
+				promotion.pointAmount(),
+				row.queuePosition()
+			));
+		}
+		outbox.appendWinnerEvents(events);
+	}
 
-			if (queueData == null) {
-				break; // 큐가 비었으면 종료
+	// 트랜잭션 커밋 이후 참여 결과 기록 (커밋되지 않은 결과가 조회되지 않도록 함)
+	private void saveResultsAfterCommit(PromotionSnapshot promotion, List<ParticipationRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		// 결과 기록 후 결과 대기 요청에 알림 (실패해도 처리를 막지 않음, 결과 조회는 DB로 대체)
+		runAfterCommit("참여 결과 기록", promotion.id(), () -> {
+			resultStore.saveAll(promotion, rows);
+			resultNotifier.publish(promotion.id(), rows.stream().map(ParticipationRow::userId).toList());
+		});
+	}
+
+	// 트랜잭션 커밋 이후 처리 완료 커서 갱신 (대기 순서 조회용, 실패해도 처리는 계속)
+	private void markDrainedAfterCommit(PromotionSnapshot promotion, List<QueueMessage> messages) {
+		runAfterCommit("처리 완료 커서 갱신", promotion.id(), () -> queueService.markDrained(promotion, messages));
+	}
+
+	// 트랜잭션 커밋 이후 처리 완료 전송 (커밋 실패 시 항목은 대기열에 남아 재처리됨)
+	private void acknowledgeAfterCommit(UUID promotionId, List<String> messageIds) {
+		if (messageIds.isEmpty()) {
+			return;
+		}
+		runAfterCommit("처리 완료 전송", promotionId, () -> queueService.acknowledge(promotionId, messageIds));
+	}
+
+	// 트랜잭션 롤백 시 꺼낸 항목을 대기열로 되돌림 (Streams 백엔드는 처리 완료 전송 전이라 대기 목록에 남아 있음)
+	private void requeueAfterRollback(UUID promotionId, List<QueueMessage> messages) {
+		runAfterRollback(() -> {
+			try {
+				queueService.requeue(promotionId, messages);
+			} catch (Exception e) {
+				log.error("롤백된 배치 반환 실패 - promotionId: {}, count: {}, error: {}", promotionId, messages.size(), e.getMessage());
 			}
+		});
+	}
 
-			// 데이터 파싱 : "userId:ipAddress:userAgent:timestamp"
-			String[] parts = queueData.split(":");
-			if (parts.length < 3) {
-				log.warn("잘못된 큐 데이터 형식 - data: {}", queueData);
-				continue;
+	// 트랜잭션 롤백 시 할당받은 당첨 순번 반환 (반환하지 못하면 해당 순번은 비어 있는 채로 남음)
+	private void releaseWinnersAfterRollback(UUID promotionId, WinnerSlots slots, long fenceToken) {
+		if (slots.count() == 0) {
+			return;
+		}
+		runAfterRollback(() -> {
+			try {
+				if (!queueService.releaseWinners(promotionId, slots, fenceToken)) {
+					log.warn("당첨 순번 반환 불가 (이후 할당 또는 임대 이전) - promotionId: {}, from: {}, count: {}",
+						promotionId, slots.firstPosition(), slots.count());
+				}
+			} catch (Exception e) {
+				log.error("당첨 순번 반환 실패 - promotionId: {}, count: {}, error: {}", promotionId, slots.count(), e.getMessage());
 			}
+		});
+	}
+
+	// 트랜잭션 롤백 이후 실행 (트랜잭션 밖에서 호출되면 실행하지 않음)
+	private void runAfterRollback(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
 
-			UUID userId = UUID.fromString(parts[0]);
-			String ipAddress = parts[1];
-			String userAgent = parts[2];
-
-			// 선착순 판단 (원자적 증가)
-			Long winnerCount = queueService.incrementWinnerCount(promotionId);
-
-			// 당첨/탈락 결정
-			PromotionParticipation participation;
-			if (winnerCount <= promotion.getTotalStock()) {
-				// 당첨
-				participation = PromotionParticipation.createWinner(promotion, userId, ipAddress, userAgent, winnerCount);
-				log.info("당첨 - promotionId: {}, userId: {}, position: {}", promotionId, userId, winnerCount);
-
-				// 당첨 이벤트 발행
-				PromotionWinnerEvent event = PromotionWinnerEvent.of(
-					promotion.getId(),
-					promotion.getName(),
-					userId,
-					promotion.getPointAmount(),
-					winnerCount
-				);
-				eventPublisher.publishWinnerEvent(event);
-			} else {
-				// 탈락
-				participation = PromotionParticipation.createLoser(promotion, userId, ipAddress, userAgent);
-				log.info("탈락 - promotionId: {}, userId: {}", promotionId, userId);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					action.run();
+				}
 			}
+		});
+	}
 
-			batch.add(participation); // 배치에 추가
+	/*
+	트랜잭션 커밋 이후 실행 (트랜잭션 밖에서 호출되면 바로 실행)
+	실패는 로그만 남김 (예외가 나면 이후 커밋 콜백이 실행되지 않고, 이미 커밋된 배치가 실패로 처리되므로)
+	@param task 작업 이름 (로그용)
+	@param promotionId 프로모션 ID
+	@param action 실행할 작업
+	 */
+	private void runAfterCommit(String task, UUID promotionId, Runnable action) {
+		Runnable guarded = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				log.error("커밋 이후 작업 실패 - promotionId: {}, task: {}, error: {}", promotionId, task, e.getMessage());
+			}
+		};
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			guarded.run();
+			return;
 		}
 
-		// 3. 배치 저장
-		if (!batch.isEmpty()) {
-			participationRepository.saveAll(batch);
-			log.info("배치 저장 완료 - promotionId: {}, count: {}", promotionId, batch.size());
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				guarded.run();
+			}
+		});
+	}
+
+	/*
+	대기열 처리 속도 갱신 (지수 이동 평균, 대기 순서 조회의 예상 대기 시간 계산용)
+	@param promotionId 프로모션 ID
+	@param processed 배치에서 처리한 항목 수
+	@param elapsedMillis 배치 처리 시간
+	 */
+	private void recordDrainRate(UUID promotionId, int processed, long elapsedMillis) {
+		double latest = processed * 1000.0 / Math.max(1L, elapsedMillis);
+		double rate = drainRates.merge(promotionId, latest, (previous, current) -> previous + DRAIN_RATE_WEIGHT * (current - previous));
+		try {
+			queueService.recordDrainRate(promotionId, rate);
+		} catch (Exception e) {
+			log.warn("처리 속도 기록 실패 - promotionId: {}, error: {}", promotionId, e.getMessage());
 		}
 	}
 }
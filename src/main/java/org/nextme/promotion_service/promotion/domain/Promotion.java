@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,7 +20,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_promotion")
+@Table(name = "p_promotion", indexes = {
+	@Index(name = "idx_promotion_status", columnList = "status"),
+	@Index(name = "idx_promotion_created", columnList = "created_at DESC, id DESC"),
+	@Index(name = "idx_promotion_status_created", columnList = "status, created_at DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Promotion extends BaseEntity {
@@ -0,0 +1,43 @@
+package org.nextme.promotion_service.promotion.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+프로모션 불변 스냅샷
+참여 경로에서 DB 조회 없이 참여 가능 여부를 판단하기 위한 캐시 값
+ */
+public record PromotionSnapshot(
+	UUID id,
+	String name,
+	LocalDateTime startTime,
+	LocalDateTime endTime,
+	Integer totalStock,
+	Integer pointAmount,
+	PromotionStatus status
+) {
+	public static PromotionSnapshot from(Promotion promotion) {
+		return new PromotionSnapshot(
+			promotion.getId(),
+			promotion.getName(),
+			promotion.getStartTime(),
+			promotion.getEndTime(),
+			promotion.getTotalStock(),
+			promotion.getPointAmount(),
+			promotion.getStatus()
+		);
+	}
+
+	// 현재 프로모션이 진행 중인지 확인 (Promotion.isActive와 동일한 기준)
+	public boolean isActive() {
+		LocalDateTime now = LocalDateTime.now();
+		return status == PromotionStatus.ACTIVE
+			&& now.isAfter(startTime)
+			&& now.isBefore(endTime);
+	}
+
+	// 참여 가능한 상태인지 검증
+	public boolean canParticipate() {
+		return isActive() && totalStock > 0;
+	}
+}
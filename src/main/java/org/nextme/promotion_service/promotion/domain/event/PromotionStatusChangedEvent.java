@@ -0,0 +1,14 @@
+package org.nextme.promotion_service.promotion.domain.event;
+
+import java.util.UUID;
+
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+
+// 프로모션 상태 변경 이벤트 (애플리케이션 내부 이벤트, 트랜잭션 커밋 후 처리)
+// 프로모션 생성 시에는 previousStatus가 null
+public record PromotionStatusChangedEvent(
+	UUID promotionId,
+	PromotionStatus previousStatus,
+	PromotionStatus status
+) {
+}
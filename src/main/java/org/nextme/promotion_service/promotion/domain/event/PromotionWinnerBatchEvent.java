@@ -0,0 +1,32 @@
+package org.nextme.promotion_service.promotion.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+당첨자 일괄 이벤트 (워커 배치 하나의 당첨자를 한 메시지로 발행)
+프로모션 정보는 한 번만 담고 당첨자마다 사용자 ID / 당첨 순번 / 당첨 시각만 담음
+@param promotionId 프로모션 ID
+@param promotionName 프로모션 이름
+@param pointAmount 당첨자 1인당 지급할 포인트 금액
+@param winners 당첨자 목록 (당첨 순번 순)
+ */
+public record PromotionWinnerBatchEvent(
+	UUID promotionId,
+	String promotionName,
+	Integer pointAmount,
+	List<Winner> winners
+) {
+	/*
+	@param userId 사용자 ID
+	@param queuePosition 당첨 순번
+	@param wonAt 당첨 시각
+	 */
+	public record Winner(
+		UUID userId,
+		Long queuePosition,
+		LocalDateTime wonAt
+	) {
+	}
+}
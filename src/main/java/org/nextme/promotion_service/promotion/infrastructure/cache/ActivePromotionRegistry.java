@@ -0,0 +1,123 @@
+package org.nextme.promotion_service.promotion.infrastructure.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.nextme.promotion_service.promotion.domain.Promotion;
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.nextme.promotion_service.promotion.infrastructure.redis.RedisKeyGenerator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+진행 중(ACTIVE) 프로모션 로컬 레지스트리 (워커용)
+- 기동 시 DB에서 로드하고, 이후에는 상태 변경 알림(Redis Pub/Sub)을 받을 때 해당 프로모션을 다시 조회
+- Pub/Sub 메시지 유실(리스너 재연결 등)에 대비해 일정 주기로 DB와 다시 맞춤
+- 워커는 매 주기 DB를 조회하지 않고 메모리의 목록만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivePromotionRegistry implements MessageListener {
+
+	private final PromotionRepository promotionRepository;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Set<UUID> activePromotions = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyGenerator.PROMOTION_CHANGED_CHANNEL));
+	}
+
+	// 기동 시 진행 중인 프로모션 로드
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		int count = reload();
+		log.info("진행 중인 프로모션 로드 - count: {}", count);
+	}
+
+	// 상태 변경 알림 유실 대비 주기적으로 DB와 다시 맞춤
+	@Scheduled(initialDelayString = "${promotion.worker.active-reconcile-millis:60000}",
+		fixedDelayString = "${promotion.worker.active-reconcile-millis:60000}")
+	public void reconcile() {
+		try {
+			int count = reload();
+			log.debug("진행 중인 프로모션 재확인 - count: {}", count);
+		} catch (Exception e) {
+			log.warn("진행 중인 프로모션 재확인 실패 - error: {}", e.getMessage());
+		}
+	}
+
+	/*
+	DB의 진행 중인 프로모션으로 목록 갱신
+	조회하는 동안 상태 변경 알림으로 추가된 프로모션은 제거하지 않음 (조회 전에 있던 항목만 제거 대상)
+	@return 진행 중인 프로모션 수
+	 */
+	private int reload() {
+		Set<UUID> before = Set.copyOf(activePromotions);
+		Set<UUID> ids = promotionRepository.findByStatus(PromotionStatus.ACTIVE).stream()
+			.map(Promotion::getId)
+			.collect(Collectors.toSet());
+
+		activePromotions.addAll(ids);
+		for (UUID promotionId : before) {
+			if (!ids.contains(promotionId)) {
+				activePromotions.remove(promotionId);
+			}
+		}
+		return ids.size();
+	}
+
+	/*
+	진행 중인 프로모션 ID 목록
+	@return 진행 중인 프로모션 ID
+	 */
+	public List<UUID> activeIds() {
+		return List.copyOf(activePromotions);
+	}
+
+	/*
+	진행 중 여부 확인
+	@param promotionId 프로모션 ID
+	@return 진행 중 여부
+	 */
+	public boolean isActive(UUID promotionId) {
+		return activePromotions.contains(promotionId);
+	}
+
+	// 상태 변경 알림 수신 (커밋 이후 발행되므로 DB에서 현재 상태 확인)
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		UUID promotionId;
+		try {
+			promotionId = UUID.fromString(new String(message.getBody()));
+		} catch (IllegalArgumentException e) {
+			return;
+		}
+
+		boolean active = promotionRepository.findById(promotionId)
+			.map(promotion -> promotion.getStatus() == PromotionStatus.ACTIVE)
+			.orElse(false);
+		if (active) {
+			activePromotions.add(promotionId);
+		} else {
+			activePromotions.remove(promotionId);
+		}
+		log.info("진행 중인 프로모션 갱신 - promotionId: {}, active: {}", promotionId, active);
+	}
+}
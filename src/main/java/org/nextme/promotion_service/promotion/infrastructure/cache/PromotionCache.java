@@ -0,0 +1,154 @@
+package org.nextme.promotion_service.promotion.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.domain.event.PromotionStatusChangedEvent;
+import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionRepository;
+import org.nextme.promotion_service.promotion.infrastructure.redis.RedisKeyGenerator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+프로모션 스냅샷 로컬 캐시 (Read-through)
+- 참여 경로의 프로모션 조회를 메모리에서 처리
+- 상태 변경 시 Redis Pub/Sub으로 모든 Pod의 캐시를 즉시 무효화
+- Pub/Sub 메시지 유실에 대비해 일정 시간이 지나면 다시 로드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionCache implements MessageListener {
+
+	private final PromotionRepository promotionRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	// 캐시 최대 유지 시간 (무효화 메시지 유실 대비)
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final Map<UUID, CachedSnapshot> cache = new ConcurrentHashMap<>();
+
+	// 로드 중인 프로모션 (같은 Key의 동시 로드를 하나로 합침, 무효화되면 제거되어 로드 결과를 캐시에 넣지 않음)
+	private final Map<UUID, CompletableFuture<Optional<CachedSnapshot>>> loading = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyGenerator.PROMOTION_CHANGED_CHANNEL));
+	}
+
+	/*
+	프로모션 스냅샷 조회 (캐시에 없으면 DB에서 로드)
+	@param promotionId 프로모션 ID
+	@return 프로모션 스냅샷, 존재하지 않으면 empty
+	 */
+	public Optional<PromotionSnapshot> get(UUID promotionId) {
+		CachedSnapshot cached = cache.get(promotionId);
+		if (cached != null && !cached.isExpired()) {
+			return Optional.of(cached.snapshot());
+		}
+
+		// 같은 Key의 동시 로드는 하나로 합침 (DB 조회는 Map 잠금 밖에서 실행, 같은 버킷의 다른 Key 조회를 막지 않음)
+		CompletableFuture<Optional<CachedSnapshot>> future = new CompletableFuture<>();
+		CompletableFuture<Optional<CachedSnapshot>> inFlight = loading.putIfAbsent(promotionId, future);
+		if (inFlight != null) {
+			return await(inFlight).map(CachedSnapshot::snapshot);
+		}
+
+		try {
+			Optional<CachedSnapshot> loaded = promotionRepository.findById(promotionId)
+				.map(promotion -> new CachedSnapshot(PromotionSnapshot.from(promotion), System.nanoTime()));
+			// 로드 중 무효화되지 않았을 때만 캐시에 반영 (무효화와 원자적으로 처리)
+			loading.computeIfPresent(promotionId, (id, current) -> {
+				if (current != future) {
+					return current;
+				}
+				loaded.ifPresentOrElse(snapshot -> cache.put(id, snapshot), () -> cache.remove(id));
+				return null;
+			});
+			future.complete(loaded);
+			return loaded.map(CachedSnapshot::snapshot);
+		} catch (RuntimeException e) {
+			loading.remove(promotionId, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// 다른 스레드의 로드 결과 대기 (로드 중 발생한 예외는 그대로 전달)
+	private static Optional<CachedSnapshot> await(CompletableFuture<Optional<CachedSnapshot>> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/*
+	프로모션 스냅샷 조회 (캐시에 있을 때만, DB 접근 없음)
+	@param promotionId 프로모션 ID
+	@return 캐시된 프로모션 스냅샷, 없거나 만료되었으면 empty
+	 */
+	public Optional<PromotionSnapshot> getIfPresent(UUID promotionId) {
+		CachedSnapshot cached = cache.get(promotionId);
+		if (cached == null || cached.isExpired()) {
+			return Optional.empty();
+		}
+		return Optional.of(cached.snapshot());
+	}
+
+	/*
+	프로모션 상태 변경 시 캐시 무효화 전파 (트랜잭션 커밋 이후)
+	@param event 상태 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStatusChanged(PromotionStatusChangedEvent event) {
+		evictLocal(event.promotionId());
+		stringRedisTemplate.convertAndSend(RedisKeyGenerator.PROMOTION_CHANGED_CHANNEL, event.promotionId().toString());
+		log.info("프로모션 캐시 무효화 발행 - promotionId: {}, status: {}", event.promotionId(), event.status());
+	}
+
+	// 다른 Pod(자신 포함)에서 발행한 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			UUID promotionId = UUID.fromString(new String(message.getBody()));
+			evictLocal(promotionId);
+			log.debug("프로모션 캐시 무효화 수신 - promotionId: {}", promotionId);
+		} catch (IllegalArgumentException e) {
+			log.warn("잘못된 캐시 무효화 메시지 - body: {}", new String(message.getBody()));
+		}
+	}
+
+	private void evictLocal(UUID promotionId) {
+		// 로드 중인 결과가 무효화 이후에 캐시에 들어가지 않도록 먼저 제거
+		loading.remove(promotionId);
+		cache.remove(promotionId);
+	}
+
+	private record CachedSnapshot(PromotionSnapshot snapshot, long loadedAtNanos) {
+
+		boolean isExpired() {
+			return System.nanoTime() - loadedAtNanos > TTL.toNanos();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package org.nextme.promotion_service.promotion.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionQueueService;
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueCounters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+프로모션 참여 현황 카운터 스냅샷 (Pod 로컬)
+- 짧은 시간 동안 같은 스냅샷을 재사용해 대시보드 새로고침이 Redis 요청으로 이어지지 않게 함
+- 같은 프로모션을 동시에 조회하면 진행 중인 조회 하나의 결과를 함께 사용 (single-flight)
+- 캐시에 없는 프로모션은 한 번의 파이프라인으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionStatusCache {
+
+	private final PromotionQueueService queueService;
+
+	// 스냅샷 재사용 시간 (밀리초)
+	@Value("${promotion.status.snapshot-millis:500}")
+	private long snapshotMillis;
+
+	private final Map<UUID, CachedCounters> snapshots = new ConcurrentHashMap<>();
+
+	private final Map<UUID, CompletableFuture<QueueCounters>> inFlight = new ConcurrentHashMap<>();
+
+	/*
+	참여 현황 카운터 조회
+	@param promotionId 프로모션 ID
+	@return 참여 현황 카운터
+	 */
+	public QueueCounters get(UUID promotionId) {
+		return getAll(List.of(promotionId)).get(promotionId);
+	}
+
+	/*
+	참여 현황 카운터 일괄 조회
+	@param promotionIds 프로모션 ID
+	@return 프로모션별 참여 현황 카운터 (요청 순서 유지)
+	 */
+	public Map<UUID, QueueCounters> getAll(List<UUID> promotionIds) {
+		Map<UUID, QueueCounters> counters = new LinkedHashMap<>();
+		Map<UUID, CompletableFuture<QueueCounters>> owned = new LinkedHashMap<>();
+		Map<UUID, CompletableFuture<QueueCounters>> joined = new HashMap<>();
+
+		long now = System.nanoTime();
+		for (UUID promotionId : promotionIds) {
+			if (counters.containsKey(promotionId) || owned.containsKey(promotionId) || joined.containsKey(promotionId)) {
+				continue;
+			}
+			CachedCounters cached = snapshots.get(promotionId);
+			if (cached != null && !cached.isExpired(now, snapshotMillis)) {
+				counters.put(promotionId, cached.counters());
+				continue;
+			}
+
+			// 다른 요청이 이미 조회 중이면 그 결과를 기다리고, 아니면 이 요청이 조회
+			CompletableFuture<QueueCounters> future = new CompletableFuture<>();
+			CompletableFuture<QueueCounters> existing = inFlight.putIfAbsent(promotionId, future);
+			if (existing != null) {
+				joined.put(promotionId, existing);
+			} else {
+				owned.put(promotionId, future);
+			}
+			counters.put(promotionId, null);
+		}
+
+		if (!owned.isEmpty()) {
+			fetch(owned, counters);
+		}
+
+		joined.forEach((promotionId, future) -> counters.put(promotionId, await(future)));
+		return counters;
+	}
+
+	// 이 요청이 맡은 프로모션을 한 번의 파이프라인으로 조회하고 기다리는 요청에 전달
+	private void fetch(Map<UUID, CompletableFuture<QueueCounters>> owned, Map<UUID, QueueCounters> counters) {
+		try {
+			Map<UUID, QueueCounters> fetched = queueService.getCounters(new ArrayList<>(owned.keySet()));
+			long fetchedAt = System.nanoTime();
+			owned.forEach((promotionId, future) -> {
+				QueueCounters value = fetched.get(promotionId);
+				snapshots.put(promotionId, new CachedCounters(value, fetchedAt));
+				counters.put(promotionId, value);
+				future.complete(value);
+			});
+		} catch (RuntimeException e) {
+			log.warn("참여 현황 조회 실패 - count: {}, error: {}", owned.size(), e.getMessage());
+			owned.values().forEach(future -> future.completeExceptionally(e));
+			throw e;
+		} finally {
+			owned.forEach(inFlight::remove);
+		}
+	}
+
+	private static QueueCounters await(CompletableFuture<QueueCounters> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record CachedCounters(QueueCounters counters, long fetchedAtNanos) {
+
+		boolean isExpired(long now, long snapshotMillis) {
+			return now - fetchedAtNanos > snapshotMillis * 1_000_000L;
+		}
+	}
+}
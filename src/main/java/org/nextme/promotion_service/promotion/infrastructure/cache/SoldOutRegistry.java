@@ -0,0 +1,78 @@
+package org.nextme.promotion_service.promotion.infrastructure.cache;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.nextme.promotion_service.promotion.infrastructure.redis.RedisKeyGenerator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+재고 소진 프로모션 로컬 레지스트리
+- 워커가 마지막 재고를 할당하면 Redis Pub/Sub으로 모든 Pod에 전파
+- 참여 요청은 Redis 접근 전에 메모리에서 재고 소진 여부를 확인
+- 메시지를 받지 못한 Pod(재시작 등)는 참여 스크립트의 재고 소진 플래그 확인 결과로 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutRegistry implements MessageListener {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Set<UUID> soldOutPromotions = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyGenerator.PROMOTION_SOLD_OUT_CHANNEL));
+	}
+
+	/*
+	재고 소진 여부 확인 (메모리)
+	@param promotionId 프로모션 ID
+	@return 재고 소진 여부
+	 */
+	public boolean isSoldOut(UUID promotionId) {
+		return soldOutPromotions.contains(promotionId);
+	}
+
+	/*
+	재고 소진 등록 후 모든 Pod에 전파
+	@param promotionId 프로모션 ID
+	 */
+	public void publish(UUID promotionId) {
+		markLocal(promotionId);
+		stringRedisTemplate.convertAndSend(RedisKeyGenerator.PROMOTION_SOLD_OUT_CHANNEL, promotionId.toString());
+		log.info("프로모션 재고 소진 발행 - promotionId: {}", promotionId);
+	}
+
+	/*
+	재고 소진 등록 (현재 Pod만)
+	@param promotionId 프로모션 ID
+	 */
+	public void markLocal(UUID promotionId) {
+		if (soldOutPromotions.add(promotionId)) {
+			log.info("프로모션 재고 소진 등록 - promotionId: {}", promotionId);
+		}
+	}
+
+	// 다른 Pod(자신 포함)에서 발행한 재고 소진 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			markLocal(UUID.fromString(new String(message.getBody())));
+		} catch (IllegalArgumentException e) {
+			log.warn("잘못된 재고 소진 메시지 - body: {}", new String(message.getBody()));
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+/*
+발행 대기 메시지
+@param id 아웃박스 ID (저장 순서)
+@param topic Kafka 토픽
+@param messageKey Kafka 메시지 Key
+@param payload 메시지 본문 (JSON)
+ */
+public record OutboxMessage(
+	long id,
+	String topic,
+	String messageKey,
+	String payload
+) {
+}
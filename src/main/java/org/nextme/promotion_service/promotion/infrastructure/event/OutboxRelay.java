@@ -0,0 +1,123 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.nextme.promotion_service.global.config.KafkaConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+아웃박스 릴레이
+- 발행 대기 메시지를 한 번에 여러 개 선점하고(SKIP LOCKED + 선점 시각) 바로 커밋한 뒤, 트랜잭션 밖에서 모두 비동기로 전송하고 브로커 확인을 한꺼번에 기다림
+- 확인된 메시지만 삭제하고, 실패한 메시지는 선점을 해제해 다음 주기에 다시 발행 (최소 한 번 전달)
+- 같은 메시지 Key에서 실패한 메시지 뒤의 메시지는 성공했어도 삭제하지 않고 함께 재발행 (Key별 순서 유지)
+- 여러 Pod가 동시에 실행해도 서로 다른 행을 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private final PromotionOutbox outbox;
+	private final PromotionEventPublisher eventPublisher;
+	private final WinnerBatchEventPublisher batchEventPublisher;
+
+	// 한 번에 발행할 최대 메시지 수
+	@Value("${promotion.outbox.batch-size:500}")
+	private int batchSize;
+
+	// 브로커 확인 최대 대기 시간
+	@Value("${promotion.outbox.send-timeout-millis:10000}")
+	private long sendTimeoutMillis;
+
+	// 선점 시간 (지나면 다른 릴레이가 다시 선점, 브로커 확인 최대 대기 시간보다 길어야 함)
+	@Value("${promotion.outbox.claim-millis:30000}")
+	private long claimMillis;
+
+	@Scheduled(fixedDelayString = "${promotion.outbox.relay-interval-millis:200}")
+	public void relay() {
+		try {
+			boolean more;
+			do {
+				more = relayBatch();
+			} while (more);
+		} catch (Exception e) {
+			log.error("아웃박스 릴레이 중 오류 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	// 한 배치 발행, 가득 찬 배치를 모두 발행했으면 true (바로 다음 배치 발행)
+	private boolean relayBatch() {
+		List<OutboxMessage> messages = outbox.claimPending(batchSize, claimMillis);
+		if (messages.isEmpty()) {
+			return false;
+		}
+
+		List<Long> done = new ArrayList<>(messages.size());
+		List<CompletableFuture<?>> futures = new ArrayList<>(messages.size());
+
+		for (OutboxMessage message : messages) {
+			CompletableFuture<?> future = null;
+			try {
+				future = send(message);
+				if (future == null) {
+					log.warn("알 수 없는 아웃박스 토픽 - id: {}, topic: {}", message.id(), message.topic());
+				}
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 아웃박스 메시지 삭제 - id: {}, error: {}", message.id(), e.getMessage());
+			}
+			futures.add(future);
+		}
+
+		// 모든 전송의 브로커 확인을 한꺼번에 대기
+		try {
+			CompletableFuture.allOf(futures.stream().filter(f -> f != null).toArray(CompletableFuture[]::new))
+				.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			log.warn("아웃박스 일부 발행 실패 - 다음 주기에 재발행, error: {}", e.getMessage());
+		}
+
+		// 저장 순서대로 확인 (Key별로 첫 실패 이후 메시지는 남겨 두고 다시 발행)
+		List<Long> retry = new ArrayList<>();
+		Set<String> failedKeys = new HashSet<>();
+		for (int i = 0; i < messages.size(); i++) {
+			OutboxMessage message = messages.get(i);
+			CompletableFuture<?> future = futures.get(i);
+			if (future == null) {
+				// 발행할 수 없는 메시지는 삭제
+				done.add(message.id());
+				continue;
+			}
+			boolean sent = future.isDone() && !future.isCompletedExceptionally();
+			if (sent && !failedKeys.contains(message.messageKey())) {
+				done.add(message.id());
+			} else {
+				failedKeys.add(message.messageKey());
+				retry.add(message.id());
+			}
+		}
+
+		outbox.delete(done);
+		outbox.release(retry);
+		log.debug("아웃박스 발행 완료 - count: {}, pending: {}", done.size(), retry.size());
+		return retry.isEmpty() && messages.size() >= batchSize;
+	}
+
+	// 토픽별 발행 (알 수 없는 토픽이면 null)
+	private CompletableFuture<?> send(OutboxMessage message) {
+		return switch (message.topic()) {
+			case KafkaConfig.PROMOTION_WINNER_TOPIC -> eventPublisher.publishWinnerEvent(outbox.readWinnerEvent(message));
+			case KafkaConfig.PROMOTION_WINNER_BATCH_TOPIC -> batchEventPublisher.publish(outbox.readWinnerBatchEvent(message));
+			default -> null;
+		};
+	}
+}
@@ -1,8 +1,11 @@
 package org.nextme.promotion_service.promotion.infrastructure.event;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.nextme.promotion_service.global.config.KafkaConfig;
 import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerEvent;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -15,15 +18,21 @@ public class PromotionEventPublisher {
 
 	private final KafkaTemplate<String, PromotionWinnerEvent> kafkaTemplate;
 
-	// 당첨자 이벤트 발행
-	public void publishWinnerEvent(PromotionWinnerEvent event) {
-		try {
-			kafkaTemplate.send(KafkaConfig.PROMOTION_WINNER_TOPIC, event.getPromotionId().toString(), event);
-			log.info("당첨 이벤트 발행 성공 - promotionId: {}, userId: {}, position: {}",
-				event.getPromotionId(), event.getUserId(), event.getQueuePosition());
-		} catch (Exception e) {
-			log.error("당첨 이벤트 발행 실패 - promotionId: {}, userId: {}, error: {}",
-				event.getPromotionId(), event.getUserId(), e.getMessage(), e);
-		}
+	/*
+	당첨자 이벤트 발행 (비동기, 아웃박스 릴레이에서 호출)
+	@param event 당첨 이벤트
+	@return 브로커 확인(acks) 결과
+	 */
+	public CompletableFuture<SendResult<String, PromotionWinnerEvent>> publishWinnerEvent(PromotionWinnerEvent event) {
+		return kafkaTemplate.send(KafkaConfig.PROMOTION_WINNER_TOPIC, event.getPromotionId().toString(), event)
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.error("당첨 이벤트 발행 실패 - promotionId: {}, userId: {}, error: {}",
+						event.getPromotionId(), event.getUserId(), e.getMessage());
+				} else {
+					log.debug("당첨 이벤트 발행 성공 - promotionId: {}, userId: {}, position: {}",
+						event.getPromotionId(), event.getUserId(), event.getQueuePosition());
+				}
+			});
 	}
 }
@@ -0,0 +1,153 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.nextme.promotion_service.global.config.KafkaConfig;
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerBatchEvent;
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+트랜잭션 아웃박스
+- 워커는 참여 기록과 같은 트랜잭션에서 이벤트를 저장만 하고, Kafka 발행은 릴레이가 별도로 처리
+- 참여 기록 저장이 롤백되면 이벤트도 함께 롤백되고, Kafka 장애 시에는 행이 남아 재발행됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class PromotionOutbox {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${spring.jpa.properties.hibernate.default_schema:promotionservice}")
+	private String schema;
+
+	/*
+	당첨 이벤트 저장 (호출한 쪽의 트랜잭션 안에서 실행)
+	@param events 당첨 이벤트
+	 */
+	public void appendWinnerEvents(List<PromotionWinnerEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+
+		String sql = "INSERT INTO " + schema + ".p_promotion_outbox (topic, message_key, payload) VALUES (?, ?, ?::jsonb)";
+		jdbcTemplate.batchUpdate(sql, events, events.size(), (PreparedStatement ps, PromotionWinnerEvent event) -> {
+			ps.setString(1, KafkaConfig.PROMOTION_WINNER_TOPIC);
+			ps.setString(2, event.getPromotionId().toString());
+			ps.setString(3, toJson(event));
+		});
+	}
+
+	/*
+	당첨자 일괄 이벤트 저장 (호출한 쪽의 트랜잭션 안에서 실행)
+	아웃박스에는 JSON으로 저장하고 릴레이가 발행할 때 바이너리로 변환
+	@param event 당첨자 일괄 이벤트
+	 */
+	public void appendWinnerBatchEvent(PromotionWinnerBatchEvent event) {
+		if (event.winners().isEmpty()) {
+			return;
+		}
+
+		String sql = "INSERT INTO " + schema + ".p_promotion_outbox (topic, message_key, payload) VALUES (?, ?, ?::jsonb)";
+		jdbcTemplate.update(sql, KafkaConfig.PROMOTION_WINNER_BATCH_TOPIC, event.promotionId().toString(), toJson(event));
+	}
+
+	/*
+	발행 대기 메시지 선점 (단일 UPDATE 문으로 바로 커밋, 다른 Pod의 릴레이가 잠그거나 선점한 행은 건너뜀)
+	선점 시각이 지난 행은 다시 선점할 수 있으므로 선점 시간은 발행 대기 시간보다 길어야 함
+	@param limit 최대 개수
+	@param claimMillis 선점 시간 (ms)
+	@return 저장 순서대로 정렬된 메시지
+	 */
+	public List<OutboxMessage> claimPending(int limit, long claimMillis) {
+		String table = schema + ".p_promotion_outbox";
+		String sql = "UPDATE " + table + " SET claimed_until = now() + ? * INTERVAL '1 millisecond'"
+			+ " WHERE id IN (SELECT id FROM " + table
+			+ " WHERE claimed_until IS NULL OR claimed_until < now()"
+			+ " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)"
+			+ " RETURNING id, topic, message_key, payload::text";
+		List<OutboxMessage> messages = new ArrayList<>(jdbcTemplate.query(sql,
+			(rs, rowNum) -> new OutboxMessage(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+			claimMillis, limit));
+		// RETURNING은 순서를 보장하지 않으므로 저장 순서로 정렬
+		messages.sort(Comparator.comparingLong(OutboxMessage::id));
+		return messages;
+	}
+
+	/*
+	선점 해제 (발행하지 못했거나 같은 Key의 앞선 메시지가 실패해 남겨 둔 메시지, 다음 주기에 저장 순서대로 재발행)
+	@param ids 아웃박스 ID
+	 */
+	public void release(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update("UPDATE " + schema + ".p_promotion_outbox SET claimed_until = NULL WHERE id = ANY(?)",
+			ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+	}
+
+	/*
+	발행 완료 메시지 삭제
+	@param ids 아웃박스 ID
+	 */
+	public void delete(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update("DELETE FROM " + schema + ".p_promotion_outbox WHERE id = ANY(?)",
+			ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+	}
+
+	/*
+	저장된 당첨 이벤트 복원
+	@param message 발행 대기 메시지
+	@return 당첨 이벤트
+	 */
+	public PromotionWinnerEvent readWinnerEvent(OutboxMessage message) {
+		try {
+			return objectMapper.readValue(message.payload(), PromotionWinnerEvent.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("잘못된 아웃박스 메시지 - id: " + message.id(), e);
+		}
+	}
+
+	/*
+	저장된 당첨자 일괄 이벤트 복원
+	@param message 발행 대기 메시지
+	@return 당첨자 일괄 이벤트
+	 */
+	public PromotionWinnerBatchEvent readWinnerBatchEvent(OutboxMessage message) {
+		try {
+			return objectMapper.readValue(message.payload(), PromotionWinnerBatchEvent.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("잘못된 아웃박스 메시지 - id: " + message.id(), e);
+		}
+	}
+
+	private String toJson(PromotionWinnerEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("당첨 이벤트 직렬화 실패 - userId: " + event.getUserId(), e);
+		}
+	}
+
+	private String toJson(PromotionWinnerBatchEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("당첨자 일괄 이벤트 직렬화 실패 - promotionId: " + event.promotionId(), e);
+		}
+	}
+}
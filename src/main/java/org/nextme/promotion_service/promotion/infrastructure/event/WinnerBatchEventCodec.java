@@ -0,0 +1,209 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerBatchEvent;
+
+/*
+당첨자 일괄 이벤트 바이너리 코덱 (promotion.winner.batch 토픽)
+[버전 1B][프로모션 ID 16B][이름 길이 varint][이름 UTF-8][포인트 4B][시간대 길이 varint][시간대 ID UTF-8]
+[당첨자 수 varint][첫 당첨 순번 8B][첫 당첨 시각 UTC epoch ms 8B]
+당첨자마다 [사용자 ID 16B][순번 차이 zigzag varint][시각 차이 ms zigzag varint]
+당첨자 1명당 약 18~20바이트로, 당첨자별 JSON 메시지 대비 전송량을 10배 이상 줄임
+시각은 UTC epoch ms로 보내고 발행한 서버의 시간대를 헤더에 담아, 받는 쪽 시간대와 관계없이 같은 당첨 시각(LocalDateTime)으로 복원
+버전 1(시간대 없음, 순번 차이 음수 불가)도 복원 가능 (받는 쪽 기본 시간대 기준)
+ */
+public final class WinnerBatchEventCodec {
+
+	private static final byte VERSION_1 = 1;
+	private static final byte VERSION_2 = 2;
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	// 당첨자 1명의 최소 크기 (사용자 ID 16B + 순번 차이 1B + 시각 차이 1B)
+	private static final int MIN_WINNER_BYTES = 18;
+
+	// 첫 당첨 순번 8B + 첫 당첨 시각 8B
+	private static final int WINNER_BASE_BYTES = 16;
+
+	private WinnerBatchEventCodec() {
+	}
+
+	public static byte[] encode(PromotionWinnerBatchEvent event) {
+		return encode(event, ZONE);
+	}
+
+	/*
+	당첨자 일괄 이벤트 인코딩
+	@param event 당첨자 일괄 이벤트
+	@param zone 당첨 시각(LocalDateTime)의 시간대
+	@return 인코딩된 이벤트
+	 */
+	static byte[] encode(PromotionWinnerBatchEvent event, ZoneId zone) {
+		List<PromotionWinnerBatchEvent.Winner> winners = event.winners();
+		byte[] name = event.promotionName() != null ? event.promotionName().getBytes(StandardCharsets.UTF_8) : new byte[0];
+		byte[] zoneId = zone.getId().getBytes(StandardCharsets.UTF_8);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64 + name.length + zoneId.length + winners.size() * 20);
+		ByteBuffer fixed = ByteBuffer.allocate(16);
+
+		out.write(VERSION_2);
+		writeUuid(out, fixed, event.promotionId());
+		writeVarint(out, name.length);
+		out.write(name, 0, name.length);
+		writeInt(out, event.pointAmount() != null ? event.pointAmount() : 0);
+		writeVarint(out, zoneId.length);
+		out.write(zoneId, 0, zoneId.length);
+		writeVarint(out, winners.size());
+		if (winners.isEmpty()) {
+			return out.toByteArray();
+		}
+
+		long basePosition = winners.get(0).queuePosition();
+		long baseMillis = toMillis(winners.get(0).wonAt(), zone);
+		writeLong(out, fixed, basePosition);
+		writeLong(out, fixed, baseMillis);
+
+		// 당첨 순번 순으로 오지 않아도 복원되도록 순번 차이도 zigzag로 인코딩
+		for (PromotionWinnerBatchEvent.Winner winner : winners) {
+			writeUuid(out, fixed, winner.userId());
+			writeVarint(out, zigzag(winner.queuePosition() - basePosition));
+			writeVarint(out, zigzag(toMillis(winner.wonAt(), zone) - baseMillis));
+		}
+		return out.toByteArray();
+	}
+
+	/*
+	당첨자 일괄 이벤트 복원
+	@param data 인코딩된 이벤트
+	@return 당첨자 일괄 이벤트
+	@throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못된 경우
+	 */
+	public static PromotionWinnerBatchEvent decode(byte[] data) {
+		if (data == null || data.length == 0) {
+			throw new IllegalArgumentException("당첨자 일괄 이벤트 길이가 올바르지 않습니다.");
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			byte version = buffer.get();
+			if (version != VERSION_1 && version != VERSION_2) {
+				throw new IllegalArgumentException("지원하지 않는 당첨자 일괄 이벤트 버전입니다: " + version);
+			}
+
+			UUID promotionId = new UUID(buffer.getLong(), buffer.getLong());
+			byte[] name = new byte[checkLength(readVarint(buffer), buffer.remaining())];
+			buffer.get(name);
+			int pointAmount = buffer.getInt();
+			ZoneId zone = version == VERSION_1 ? ZONE : readZone(buffer);
+			// 당첨자 수는 남은 길이로 담을 수 있는 만큼만 허용 (잘못된 값으로 큰 목록을 할당하지 않도록)
+			long declaredCount = readVarint(buffer);
+			int count = declaredCount == 0 ? 0
+				: checkLength(declaredCount, (buffer.remaining() - WINNER_BASE_BYTES) / MIN_WINNER_BYTES);
+
+			List<PromotionWinnerBatchEvent.Winner> winners = new ArrayList<>(count);
+			if (count > 0) {
+				long basePosition = buffer.getLong();
+				long baseMillis = buffer.getLong();
+				for (int i = 0; i < count; i++) {
+					UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+					long positionDelta = readVarint(buffer);
+					long position = basePosition + (version == VERSION_1 ? positionDelta : unzigzag(positionDelta));
+					long millis = baseMillis + unzigzag(readVarint(buffer));
+					winners.add(new PromotionWinnerBatchEvent.Winner(userId, position, fromMillis(millis, zone)));
+				}
+			}
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException("당첨자 일괄 이벤트 길이가 올바르지 않습니다.");
+			}
+
+			return new PromotionWinnerBatchEvent(promotionId, new String(name, StandardCharsets.UTF_8), pointAmount, winners);
+		} catch (BufferUnderflowException | NegativeArraySizeException e) {
+			throw new IllegalArgumentException("당첨자 일괄 이벤트 형식이 올바르지 않습니다.", e);
+		}
+	}
+
+	// 헤더의 시간대 ID 복원
+	private static ZoneId readZone(ByteBuffer buffer) {
+		byte[] zoneId = new byte[checkLength(readVarint(buffer), buffer.remaining())];
+		buffer.get(zoneId);
+		try {
+			return ZoneId.of(new String(zoneId, StandardCharsets.UTF_8));
+		} catch (DateTimeException e) {
+			throw new IllegalArgumentException("당첨자 일괄 이벤트 시간대가 올바르지 않습니다.", e);
+		}
+	}
+
+	private static int checkLength(long length, int max) {
+		if (length < 0 || length > max) {
+			throw new IllegalArgumentException("당첨자 일괄 이벤트 길이가 올바르지 않습니다.");
+		}
+		return (int) length;
+	}
+
+	private static void writeUuid(ByteArrayOutputStream out, ByteBuffer fixed, UUID uuid) {
+		fixed.clear();
+		fixed.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+		out.write(fixed.array(), 0, 16);
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, ByteBuffer fixed, long value) {
+		fixed.clear();
+		fixed.putLong(value);
+		out.write(fixed.array(), 0, 8);
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	// 7비트 단위 가변 길이 정수 (음수 불가)
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("가변 길이 정수 형식이 올바르지 않습니다.");
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static long toMillis(LocalDateTime time, ZoneId zone) {
+		return time.atZone(zone).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime fromMillis(long millis, ZoneId zone) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+	}
+}
@@ -0,0 +1,52 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.nextme.promotion_service.global.config.KafkaConfig;
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerBatchEvent;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+당첨자 일괄 이벤트 발행 (promotion.winner-event.format=batch)
+공통 ProducerFactory 설정에서 값 직렬화만 byte[]로 바꾼 전용 KafkaTemplate 사용
+(KafkaTemplate Bean을 추가하면 자동 설정된 기본 KafkaTemplate이 등록되지 않으므로 Bean으로 등록하지 않음)
+ */
+@Slf4j
+@Component
+public class WinnerBatchEventPublisher {
+
+	private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+	@SuppressWarnings("unchecked")
+	public WinnerBatchEventPublisher(ProducerFactory<?, ?> producerFactory) {
+		this.kafkaTemplate = new KafkaTemplate<>((ProducerFactory<String, byte[]>) producerFactory,
+			Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+	}
+
+	/*
+	당첨자 일괄 이벤트 발행 (비동기, 아웃박스 릴레이에서 호출)
+	@param event 당첨자 일괄 이벤트
+	@return 브로커 확인(acks) 결과
+	 */
+	public CompletableFuture<SendResult<String, byte[]>> publish(PromotionWinnerBatchEvent event) {
+		byte[] payload = WinnerBatchEventCodec.encode(event);
+		return kafkaTemplate.send(KafkaConfig.PROMOTION_WINNER_BATCH_TOPIC, event.promotionId().toString(), payload)
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.error("당첨자 일괄 이벤트 발행 실패 - promotionId: {}, count: {}, error: {}",
+						event.promotionId(), event.winners().size(), e.getMessage());
+				} else {
+					log.debug("당첨자 일괄 이벤트 발행 성공 - promotionId: {}, count: {}, bytes: {}",
+						event.promotionId(), event.winners().size(), payload.length);
+				}
+			});
+	}
+}
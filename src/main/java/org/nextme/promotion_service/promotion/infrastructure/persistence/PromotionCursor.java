@@ -0,0 +1,49 @@
+package org.nextme.promotion_service.promotion.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.nextme.promotion_service.promotion.domain.Promotion;
+
+/*
+프로모션 목록 커서 (마지막으로 받은 프로모션의 생성 시각, ID)
+클라이언트에는 {생성 시각}|{ID}를 Base64 URL 인코딩한 문자열로 전달
+ */
+public record PromotionCursor(
+	LocalDateTime createdAt,
+	UUID id
+) {
+	public static PromotionCursor from(Promotion promotion) {
+		return new PromotionCursor(promotion.getCreatedAt(), promotion.getId());
+	}
+
+	public String encode() {
+		String value = createdAt + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/*
+	커서 복원
+	@param cursor 인코딩된 커서
+	@return 프로모션 목록 커서
+	@throws IllegalArgumentException 형식이 잘못된 경우
+	 */
+	public static PromotionCursor decode(String cursor) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = value.indexOf('|');
+			if (separator < 0) {
+				throw new IllegalArgumentException("프로모션 목록 커서 형식이 올바르지 않습니다.");
+			}
+			return new PromotionCursor(
+				LocalDateTime.parse(value.substring(0, separator)),
+				UUID.fromString(value.substring(separator + 1))
+			);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("프로모션 목록 커서 형식이 올바르지 않습니다.", e);
+		}
+	}
+}
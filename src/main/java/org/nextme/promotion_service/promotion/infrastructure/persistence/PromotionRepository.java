@@ -1,19 +1,51 @@
 package org.nextme.promotion_service.promotion.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.nextme.promotion_service.promotion.domain.Promotion;
 import org.nextme.promotion_service.promotion.domain.PromotionStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PromotionRepository extends JpaRepository<Promotion, UUID> {
 
 	// 특정 상태의 프로모션 조회
 	List<Promotion> findByStatus(PromotionStatus status);
 
-	// 전체 프로모션 조회
-	Page<Promotion> findByStatus(PromotionStatus status, Pageable pageable);
+	// 특정 상태이면서 종료 시각이 기준 이전인 프로모션 조회 (참여 기록 보관 기간 정리용)
+	List<Promotion> findByStatusAndEndTimeBefore(PromotionStatus status, LocalDateTime endTime);
+
+	// 전체 프로모션 목록 첫 페이지 (최신순)
+	@Query("SELECT p FROM Promotion p ORDER BY p.createdAt DESC, p.id DESC")
+	List<Promotion> findLatest(Limit limit);
+
+	// 전체 프로모션 목록 다음 페이지 ((생성 시각, ID) 커서 이후, 인덱스 범위 조회)
+	@Query("""
+		SELECT p FROM Promotion p
+		WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+		ORDER BY p.createdAt DESC, p.id DESC
+		""")
+	List<Promotion> findLatestAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+	// 상태별 프로모션 목록 첫 페이지 (최신순)
+	@Query("SELECT p FROM Promotion p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+	List<Promotion> findLatestByStatus(@Param("status") PromotionStatus status, Limit limit);
+
+	// 상태별 프로모션 목록 다음 페이지 ((생성 시각, ID) 커서 이후, 인덱스 범위 조회)
+	@Query("""
+		SELECT p FROM Promotion p
+		WHERE p.status = :status
+			AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+		ORDER BY p.createdAt DESC, p.id DESC
+		""")
+	List<Promotion> findLatestByStatusAfter(
+		@Param("status") PromotionStatus status,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id,
+		Limit limit
+	);
 }
@@ -0,0 +1,122 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/*
+Redis List 대기열 백엔드 (기본값)
+LPOP 시점에 항목이 제거되므로 ack가 필요 없음
+대기열 데이터 앞에는 참여 스크립트가 발급한 참여 순번이 붙어 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "promotion.queue.backend", havingValue = "list", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ListQueueBackend implements QueueBackend {
+
+	private final RedisTemplate<String, byte[]> queueRedisTemplate;
+	private final ReactiveRedisTemplate<String, byte[]> reactiveQueueRedisTemplate;
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> JOIN_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_join_list.lua"), List.class);
+
+	@Override
+	public QueueJoinResult join(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		List<?> result = queueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), joinArgs(promotionId, entry, maxQueueSize, expireAtMillis));
+		return QueueJoinResult.from(result);
+	}
+
+	@Override
+	public Mono<QueueJoinResult> joinAsync(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		return reactiveQueueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), List.of(joinArgs(promotionId, entry, maxQueueSize, expireAtMillis)))
+			.collectList()
+			.map(QueueJoinResult::from);
+	}
+
+	@Override
+	public List<QueueMessage> dequeue(UUID promotionId, int maxCount) {
+		// LPOP key count (Redis 6.2+) : 한 번의 요청으로 최대 maxCount개 꺼내기
+		String queueKey = RedisKeyGenerator.queueKey(promotionId);
+		List<byte[]> values = queueRedisTemplate.opsForList().leftPop(queueKey, maxCount);
+		if (values == null || values.isEmpty()) {
+			return List.of();
+		}
+
+		List<QueueMessage> messages = new ArrayList<>(values.size());
+		for (byte[] value : values) {
+			try {
+				messages.add(new QueueMessage(null, QueueEntryCodec.decodeTicketed(value), QueueEntryCodec.readTicket(value)));
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 큐 데이터 형식 - promotionId: {}, error: {}", promotionId, e.getMessage());
+			}
+		}
+		return messages;
+	}
+
+	@Override
+	public void acknowledge(UUID promotionId, List<String> messageIds) {
+		// LPOP 시점에 이미 제거됨
+	}
+
+	@Override
+	public void requeue(UUID promotionId, List<QueueMessage> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		// LPUSH는 마지막 값이 맨 앞에 오므로 역순으로 전달
+		List<byte[]> values = new ArrayList<>(messages.size());
+		for (int i = messages.size() - 1; i >= 0; i--) {
+			QueueMessage message = messages.get(i);
+			values.add(QueueEntryCodec.encodeTicketed(message.ticket(), message.entry()));
+		}
+		queueRedisTemplate.opsForList().leftPushAll(RedisKeyGenerator.queueKey(promotionId), values);
+	}
+
+	@Override
+	public long size(UUID promotionId) {
+		String queueKey = RedisKeyGenerator.queueKey(promotionId);
+		Long size = queueRedisTemplate.opsForList().size(queueKey);
+		return size != null ? size : 0L;
+	}
+
+	@Override
+	public int pipelineSize(RedisConnection connection, UUID promotionId) {
+		connection.listCommands().lLen(RedisKeyGenerator.queueKey(promotionId).getBytes(StandardCharsets.UTF_8));
+		return 1;
+	}
+
+	private List<String> joinKeys(UUID promotionId, QueueEntry entry, int memberBuckets) {
+		return List.of(
+			RedisKeyGenerator.membersKey(promotionId, memberBuckets, entry.userId()),
+			RedisKeyGenerator.queueKey(promotionId),
+			RedisKeyGenerator.sequenceKey(promotionId),
+			RedisKeyGenerator.soldOutKey(promotionId)
+		);
+	}
+
+	private Object[] joinArgs(UUID promotionId, QueueEntry entry, int maxQueueSize, long expireAtMillis) {
+		return new Object[] {
+			QueueBackend.memberField(entry.userId()),
+			String.valueOf(maxQueueSize).getBytes(StandardCharsets.UTF_8),
+			QueueEntryCodec.encode(entry),
+			RedisKeyGenerator.QUEUE_WAKEUP_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			promotionId.toString().getBytes(StandardCharsets.UTF_8),
+			String.valueOf(expireAtMillis).getBytes(StandardCharsets.UTF_8)
+		};
+	}
+}
@@ -0,0 +1,101 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+프로모션 처리 임대 관리 (Redis)
+- 프로모션마다 한 Pod만 대기열을 처리하도록 임대를 발급
+- 임대를 새로 얻을 때마다 증가하는 펜싱 토큰을 발급하고, 당첨 순번 할당 스크립트에서 토큰을 확인
+- 배치마다 임대를 갱신(하트비트)하고, 갱신이 끊기면 임대 시간 후 다른 Pod가 획득
+- 워커 Pod 목록을 하트비트로 관리해 Pod 수에 맞춰 임대를 나눠 가짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionLeaseManager {
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// 소유자 ID (쿠버네티스에서는 Pod 이름)
+	@Value("${HOSTNAME:${random.uuid}}")
+	private String ownerId;
+
+	// 임대 시간 (이 시간 동안 갱신이 없으면 다른 Pod가 획득 가능)
+	@Value("${promotion.worker.lease-millis:10000}")
+	private long leaseMillis;
+
+	private static final RedisScript<Long> ACQUIRE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_lease_acquire.lua"), Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_lease_release.lua"), Long.class);
+
+	/*
+	임대 획득 (이미 보유 중이면 갱신)
+	@param promotionId 프로모션 ID
+	@return 펜싱 토큰, 다른 Pod가 보유 중이면 empty
+	 */
+	public OptionalLong acquire(UUID promotionId) {
+		Long token = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+			List.of(RedisKeyGenerator.leaseKey(promotionId), RedisKeyGenerator.fenceKey(promotionId)),
+			ownerId, String.valueOf(leaseMillis));
+		if (token == null || token < 0) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(token);
+	}
+
+	/*
+	임대 갱신 (하트비트)
+	@param promotionId 프로모션 ID
+	@param token 보유 중인 펜싱 토큰
+	@return 같은 토큰으로 갱신되었는지 여부 (false이면 임대를 잃은 것)
+	 */
+	public boolean renew(UUID promotionId, long token) {
+		OptionalLong current = acquire(promotionId);
+		if (current.isPresent() && current.getAsLong() == token) {
+			return true;
+		}
+		// 만료 후 다시 얻은 경우에도 새 토큰이므로 이전 토큰으로는 계속 처리하지 않음
+		log.warn("프로모션 처리 임대 상실 - promotionId: {}, token: {}", promotionId, token);
+		return false;
+	}
+
+	/*
+	임대 반납 (본인 소유일 때만)
+	@param promotionId 프로모션 ID
+	 */
+	public void release(UUID promotionId) {
+		stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(RedisKeyGenerator.leaseKey(promotionId)), ownerId);
+	}
+
+	/*
+	워커 하트비트 등록 후 살아 있는 워커 수 조회
+	@return 임대 시간 안에 하트비트를 보낸 워커 수 (자신 포함)
+	 */
+	public long heartbeat() {
+		String workersKey = RedisKeyGenerator.workersKey();
+		long now = System.currentTimeMillis();
+
+		stringRedisTemplate.opsForZSet().add(workersKey, ownerId, now);
+		stringRedisTemplate.opsForZSet().removeRangeByScore(workersKey, 0, now - leaseMillis);
+		Long count = stringRedisTemplate.opsForZSet().zCard(workersKey);
+		return count != null && count > 0 ? count : 1L;
+	}
+
+	// 한 번 임대를 보유하고 처리할 최대 시간 (이후 반납해 다른 Pod와 나눠 가짐)
+	public long sliceMillis() {
+		return leaseMillis / 2;
+	}
+}
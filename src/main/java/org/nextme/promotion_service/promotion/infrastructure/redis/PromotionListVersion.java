@@ -0,0 +1,23 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+
+/*
+프로모션 목록 버전 (조건부 조회용)
+@param status 목록 상태 (null이면 전체 목록)
+@param version 마지막 변경 버전 (변경 시각 epoch ms 이상, 항상 증가)
+ */
+public record PromotionListVersion(
+	PromotionStatus status,
+	long version
+) {
+	// ETag (목록 종류 + 버전)
+	public String eTag() {
+		return "\"" + (status != null ? status.name() : PromotionListVersions.ALL) + "-" + version + "\"";
+	}
+
+	// Last-Modified (epoch ms)
+	public long lastModified() {
+		return version;
+	}
+}
@@ -0,0 +1,93 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.promotion.domain.event.PromotionStatusChangedEvent;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+프로모션 목록 버전 관리 (Redis)
+- 목록 종류(전체, 상태별)마다 버전을 두고 프로모션 생성 / 시작 / 종료 시 관련 목록의 버전만 증가
+- 목록 조회는 버전으로 ETag / Last-Modified를 만들어 바뀌지 않은 목록은 DB 조회 없이 304로 응답
+- 커밋 직전과 직후에 모두 증가시켜, 커밋 전에 조회한 목록이 새 버전으로 캐시되지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionListVersions {
+
+	// 전체 목록 버전 필드
+	static final String ALL = "ALL";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private static final RedisScript<Long> BUMP_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_list_version.lua"), Long.class);
+
+	/*
+	현재 목록 버전 조회 (버전이 없으면 현재 시각으로 초기화)
+	@param status 프로모션 상태 (null이면 전체 목록)
+	@return 목록 버전, Redis 장애 시 empty (조건부 조회 없이 응답)
+	 */
+	public Optional<PromotionListVersion> current(PromotionStatus status) {
+		String field = status != null ? status.name() : ALL;
+		try {
+			Object value = stringRedisTemplate.opsForHash().get(RedisKeyGenerator.listVersionKey(), field);
+			if (value == null) {
+				bump(List.of(field));
+				value = stringRedisTemplate.opsForHash().get(RedisKeyGenerator.listVersionKey(), field);
+			}
+			return Optional.ofNullable(value).map(v -> new PromotionListVersion(status, Long.parseLong(v.toString())));
+		} catch (DataAccessException e) {
+			log.warn("프로모션 목록 버전 조회 실패 - status: {}, error: {}", field, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	// 커밋 직전 증가 (실패해도 트랜잭션은 진행)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void beforeCommit(PromotionStatusChangedEvent event) {
+		bumpQuietly(event);
+	}
+
+	// 커밋 직후 증가 (커밋 전 버전으로 캐시된 이전 목록 무효화)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void afterCommit(PromotionStatusChangedEvent event) {
+		bumpQuietly(event);
+	}
+
+	// 전체 목록과 변경 전후 상태 목록의 버전 증가
+	private void bumpQuietly(PromotionStatusChangedEvent event) {
+		List<String> fields = new ArrayList<>(3);
+		fields.add(ALL);
+		if (event.previousStatus() != null && event.previousStatus() != event.status()) {
+			fields.add(event.previousStatus().name());
+		}
+		fields.add(event.status().name());
+
+		try {
+			bump(fields);
+		} catch (DataAccessException e) {
+			log.warn("프로모션 목록 버전 증가 실패 - promotionId: {}, error: {}", event.promotionId(), e.getMessage());
+		}
+	}
+
+	private void bump(List<String> fields) {
+		List<String> args = new ArrayList<>(fields.size() + 1);
+		args.add(String.valueOf(System.currentTimeMillis()));
+		args.addAll(fields);
+		stringRedisTemplate.execute(BUMP_SCRIPT, List.of(RedisKeyGenerator.listVersionKey()), args.toArray());
+	}
+}
@@ -1,59 +1,173 @@
 package org.nextme.promotion_service.promotion.infrastructure.redis;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 public class PromotionQueueService {
 
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, byte[]> queueRedisTemplate;
+	private final QueueBackend queueBackend;
+
+	// 프로모션 종료 후 Redis 데이터 보관 기간 (일, 참여 결과와 동일)
+	@Value("${promotion.result.retention-days:7}")
+	private long retentionDays;
+
+	// 대기열 최대 크기 = 선착순 인원 * 100
+	private static final int QUEUE_SIZE_MULTIPLIER = 100;
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ALLOCATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_allocate_winners.lua"), List.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_release_winners.lua"), Long.class);
+
+	private static final RedisScript<Long> DRAINED_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_drained.lua"), Long.class);
+
+	// 처리 속도 유지 시간 (워커가 멈추면 만료되어 예상 대기 시간을 내지 않음)
+	private static final Duration DRAIN_RATE_TTL = Duration.ofSeconds(30);
+
+	/*
+	대기열 진입 (중복 체크 + 대기열 크기 확인 + 순번 발급 + 대기열 등록을 한 번의 스크립트로 처리)
+	@param promotion 프로모션 스냅샷
+	@param entry 대기열 항목
+	@return 진입 결과 (진입 / 중복 / 대기열 초과)
+	 */
+	public QueueJoinResult join(PromotionSnapshot promotion, QueueEntry entry) {
+		return queueBackend.join(promotion.id(), entry, maxQueueSize(promotion), memberBuckets(promotion), expireAtMillis(promotion));
+	}
+
+	/*
+	대기열 진입 (논블로킹)
+	@param promotion 프로모션 스냅샷
+	@param entry 대기열 항목
+	@return 진입 결과 (진입 / 중복 / 대기열 초과)
+	 */
+	public Mono<QueueJoinResult> joinAsync(PromotionSnapshot promotion, QueueEntry entry) {
+		return queueBackend.joinAsync(promotion.id(), entry, maxQueueSize(promotion), memberBuckets(promotion), expireAtMillis(promotion));
+	}
 
 	/*
-	대기열 등록
+	대기열에서 데이터 일괄 꺼내기 (워커용, 한 번의 Redis 요청)
 	@param promotionId 프로모션 ID
-	@param data 저장할 데이터 (예 : "userId:ip:timestamp")
+	@param maxCount 최대 개수
+	@return 대기열 순서대로 꺼낸 메시지, 대기열이 비었으면 빈 목록
 	 */
-	public void enqueue(UUID promotionId, String data) {
-		String queueKey = RedisKeyGenerator.queueKey(promotionId);
-		redisTemplate.opsForList().rightPush(queueKey, data);
+	public List<QueueMessage> dequeue(UUID promotionId, int maxCount) {
+		return queueBackend.dequeue(promotionId, maxCount);
 	}
 
 	/*
-	대기열에서 데이터 꺼내기 (워커용)
+	대기열 항목 처리 완료 (참여 기록 커밋 이후 호출)
 	@param promotionId 프로모션 ID
-	@return 대기열 맨 앞 데이터, 없으면 null
+	@param messageIds 처리 완료된 메시지 ID
 	 */
-	public String dequeue(UUID promotionId) {
-		String queueKey = RedisKeyGenerator.queueKey(promotionId);
-		Object value = redisTemplate.opsForList().leftPop(queueKey);
-		return value != null ? value.toString() : null;
+	public void acknowledge(UUID promotionId, List<String> messageIds) {
+		queueBackend.acknowledge(promotionId, messageIds);
 	}
 
 	/*
-	중복 참여 체크 및 기록
+	꺼낸 메시지를 처리하지 않고 대기열 앞쪽으로 되돌림 (처리 임대를 잃은 경우)
 	@param promotionId 프로모션 ID
-	@param userId 사용자 ID
-	@return true : 신규 참여, false : 중복 참여
+	@param messages 되돌릴 메시지 (대기열 순서)
 	 */
-	public boolean addToJoinedSet(UUID promotionId, UUID userId) {
-		String joinedKey = RedisKeyGenerator.joinedKey(promotionId);
-		Long result = redisTemplate.opsForSet().add(joinedKey, userId.toString());
-		return result != null && result == 1;
+	public void requeue(UUID promotionId, List<QueueMessage> messages) {
+		queueBackend.requeue(promotionId, messages);
 	}
 
 	/*
-	참여 기록에서 제거 (롤백용)
+	처리 완료 커서 갱신 (참여 기록 커밋 이후 호출, 처리한 최대 참여 순번으로만 올림)
+	다시 전달된 항목이나 형식이 잘못된 항목이 있어도 커서가 실제 처리 위치를 넘지 않음
+	샤딩 대기열은 샤드마다 커서가 있으므로 커서별 최대 참여 순번으로 갱신
+	@param promotion 프로모션 스냅샷
+	@param messages 처리한 메시지
+	 */
+	public void markDrained(PromotionSnapshot promotion, List<QueueMessage> messages) {
+		Map<String, Long> maxTickets = new HashMap<>();
+		for (QueueMessage message : messages) {
+			if (message.ticket() > 0) {
+				maxTickets.merge(queueBackend.drainedKey(promotion.id(), message.entry().userId()), message.ticket(), Math::max);
+			}
+		}
+		maxTickets.forEach((drainedKey, maxTicket) ->
+			redisTemplate.execute(DRAINED_SCRIPT, List.of(drainedKey), maxTicket, expireAtMillis(promotion)));
+	}
+
+	/*
+	재고 소진 표시 (워커가 마지막 재고를 커밋한 이후 호출, 샤딩 대기열의 샤드별 재고 소진 플래그)
+	@param promotion 프로모션 스냅샷
+	 */
+	public void markSoldOut(PromotionSnapshot promotion) {
+		queueBackend.markSoldOut(promotion.id(), expireAtMillis(promotion));
+	}
+
+	/*
+	대기열 처리 속도 기록
 	@param promotionId 프로모션 ID
+	@param ratePerSecond 초당 처리 건수
+	 */
+	public void recordDrainRate(UUID promotionId, double ratePerSecond) {
+		redisTemplate.opsForValue().set(RedisKeyGenerator.drainRateKey(promotionId), ratePerSecond, DRAIN_RATE_TTL);
+	}
+
+	/*
+	대기열 내 현재 위치 조회 (참여 순번 - 처리 완료 커서)
+	참여 순번(참여자 Hash 버킷), 처리 완료 커서, 처리 속도를 한 번의 파이프라인으로 조회
+	@param promotion 프로모션 스냅샷 (참여자 Hash 버킷 수)
 	@param userId 사용자 ID
+	@return 현재 위치, 대기열에 진입하지 않았으면 empty
 	 */
-	public void removeFromJoinedSet(UUID promotionId, UUID userId) {
-		String joinedKey = RedisKeyGenerator.joinedKey(promotionId);
-		redisTemplate.opsForSet().remove(joinedKey, userId.toString());
+	public Optional<QueuePosition> getQueuePosition(PromotionSnapshot promotion, UUID userId) {
+		UUID promotionId = promotion.id();
+		byte[] membersKey = bytes(queueBackend.membersKey(promotionId, memberBuckets(promotion), userId));
+		byte[] field = QueueBackend.memberField(userId);
+		byte[] drainedKey = bytes(queueBackend.drainedKey(promotionId, userId));
+		List<Object> values = queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.hashCommands().hGet(membersKey, field);
+			connection.stringCommands().get(drainedKey);
+			connection.stringCommands().get(bytes(RedisKeyGenerator.drainRateKey(promotionId)));
+			return null;
+		});
+
+		OptionalLong ticket = parseLong(values.get(0));
+		if (ticket.isEmpty()) {
+			return Optional.empty();
+		}
+		long drained = parseLong(values.get(1)).orElse(0L);
+		Double drainRate = values.get(2) != null ? Double.valueOf(new String((byte[]) values.get(2), StandardCharsets.UTF_8)) : null;
+
+		long position = Math.max(0L, ticket.getAsLong() - drained);
+		return Optional.of(new QueuePosition(ticket.getAsLong(), position, drainRate));
+	}
+
+	// 10진수 문자열 응답 변환 (없으면 empty)
+	private static OptionalLong parseLong(Object value) {
+		if (value == null) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(Long.parseLong(new String((byte[]) value, StandardCharsets.UTF_8)));
 	}
 
 	/*
@@ -62,43 +176,103 @@ public class PromotionQueueService {
 	@param userId 사용자 ID
 	 */
 	public Long getQueueSize(UUID promotionId) {
-		String queueKey = RedisKeyGenerator.queueKey(promotionId);
-		Long size = redisTemplate.opsForList().size(queueKey);
-		return size != null ? size : 0L;
+		return queueBackend.size(promotionId);
 	}
 
 	/*
-	당첨자 수 증가 (원자적)
-	@param promotionId 프로모션 ID
-	@return 증가 후 당첨자 수
+	참여 현황 카운터 일괄 조회 (대기열 크기, 참여자 수, 당첨자 수를 한 번의 파이프라인으로 조회)
+	@param promotionIds 프로모션 ID
+	@return 프로모션별 참여 현황 카운터
 	 */
-	public Long incrementWinnerCount(UUID promotionId) {
-		String stockKey = RedisKeyGenerator.stockKey(promotionId);
-		return redisTemplate.opsForValue().increment(stockKey);
+	public Map<UUID, QueueCounters> getCounters(List<UUID> promotionIds) {
+		int[] sizeCommands = new int[promotionIds.size()];
+		int[] participantCommands = new int[promotionIds.size()];
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int i = 0; i < promotionIds.size(); i++) {
+				UUID promotionId = promotionIds.get(i);
+				sizeCommands[i] = queueBackend.pipelineSize(connection, promotionId);
+				participantCommands[i] = queueBackend.pipelineParticipants(connection, promotionId);
+				connection.stringCommands().get(bytes(RedisKeyGenerator.stockKey(promotionId)));
+			}
+			return null;
+		});
+
+		Map<UUID, QueueCounters> counters = new HashMap<>(promotionIds.size() * 2);
+		int index = 0;
+		for (int i = 0; i < promotionIds.size(); i++) {
+			long queueSize = 0L;
+			for (int j = 0; j < sizeCommands[i]; j++) {
+				queueSize += toLong(results.get(index++));
+			}
+			long participantCount = 0L;
+			for (int j = 0; j < participantCommands[i]; j++) {
+				participantCount += toLong(results.get(index++));
+			}
+			long winnerCount = toLong(results.get(index++));
+			counters.put(promotionIds.get(i), new QueueCounters(queueSize, participantCount, winnerCount));
+		}
+		return counters;
+	}
+
+	// 파이프라인 결과 변환 (정수 응답은 Long, 문자열 값은 역직렬화된 숫자)
+	private static long toLong(Object value) {
+		return value != null ? Long.parseLong(value.toString()) : 0L;
 	}
 
 	/*
-	현재 당첨자 수 조회
-	@param promotionId 프로모션 ID
-	@return 현재 당첨자 수
+	당첨 순번 일괄 할당 (원자적, 남은 재고 한도 내, 마지막 재고 할당 시 재고 소진 플래그 설정)
+	@param promotion 프로모션 스냅샷 (총 재고, Key 만료 시각)
+	@param requested 요청 개수 (새로 저장된 참여 기록 수)
+	@param fenceToken 처리 임대 펜싱 토큰 (현재 임대 토큰과 다르면 할당 거절)
+	@return 할당된 당첨 순번 구간
 	 */
-	public Long getWinnerCount(UUID promotionId) {
-		String stockKey = RedisKeyGenerator.stockKey(promotionId);
-		Object value = redisTemplate.opsForValue().get(stockKey);
-		if (value == null) {
-			return 0L;
-		}
-		return Long.parseLong(value.toString());
+	public WinnerSlots allocateWinners(PromotionSnapshot promotion, int requested, long fenceToken) {
+		List<String> keys = List.of(
+			RedisKeyGenerator.stockKey(promotion.id()),
+			RedisKeyGenerator.soldOutKey(promotion.id()),
+			RedisKeyGenerator.leaseKey(promotion.id())
+		);
+		List<?> result = redisTemplate.execute(ALLOCATE_SCRIPT, keys, requested, promotion.totalStock(), fenceToken, expireAtMillis(promotion));
+		return WinnerSlots.from(result);
 	}
 
 	/*
-	총 참여자 수 조회
+	당첨 순번 반환 (배치 트랜잭션이 롤백된 경우, 구간이 끝에 있고 임대가 유지될 때만)
 	@param promotionId 프로모션 ID
-	@return 총 참여자 수 (joined set 크기)
+	@param slots 반환할 당첨 순번 구간
+	@param fenceToken 처리 임대 펜싱 토큰
+	@return 반환했으면 true
 	 */
-	public Long getParticipantCount(UUID promotionId) {
-		String joinedKey = RedisKeyGenerator.joinedKey(promotionId);
-		Long count = redisTemplate.opsForSet().size(joinedKey);
-		return count != null ? count : 0L;
+	public boolean releaseWinners(UUID promotionId, WinnerSlots slots, long fenceToken) {
+		if (slots.count() == 0) {
+			return true;
+		}
+		List<String> keys = List.of(
+			RedisKeyGenerator.stockKey(promotionId),
+			RedisKeyGenerator.soldOutKey(promotionId),
+			RedisKeyGenerator.leaseKey(promotionId)
+		);
+		Long released = redisTemplate.execute(RELEASE_SCRIPT, keys, slots.lastPosition(), slots.count(), fenceToken, slots.soldOut() ? 1 : 0);
+		return released != null && released == 1L;
+	}
+
+	private static int maxQueueSize(PromotionSnapshot promotion) {
+		return promotion.totalStock() * QUEUE_SIZE_MULTIPLIER;
+	}
+
+	// 참여자 Hash 버킷 수 (참여자는 재고 소진 전까지 당첨되는 인원 + 대기열 최대 크기를 넘지 않음, 총 재고는 바뀌지 않으므로 프로모션별로 고정)
+	private static int memberBuckets(PromotionSnapshot promotion) {
+		return RedisKeyGenerator.memberBuckets((long) promotion.totalStock() + maxQueueSize(promotion));
+	}
+
+	// 프로모션 Key 만료 시각 (프로모션 종료 + 보관 기간, 참여 결과와 같은 시점에 만료)
+	private long expireAtMillis(PromotionSnapshot promotion) {
+		return promotion.endTime().plusDays(retentionDays)
+			.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
@@ -0,0 +1,131 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.RedisConnection;
+
+import reactor.core.publisher.Mono;
+
+/*
+프로모션 대기열 백엔드
+promotion.queue.backend 설정으로 선택
+- list : Redis List (LPOP 시점에 항목 제거)
+- stream : Redis Streams 컨슈머 그룹 (ack 전까지 항목 유지, 여러 워커 동시 처리 가능)
+- sharded-list : 여러 슬롯에 나눈 Redis List (한 프로모션의 참여 처리를 여러 Redis 노드로 분산)
+ */
+public interface QueueBackend {
+
+	/*
+	대기열 진입 (중복 체크 + 대기열 크기 확인 + 순번 발급 + 대기열 등록)
+	중복 체크는 참여자 Hash 버킷에서 같은 스크립트로 처리 (별도 사용자 인덱스 조회 없음)
+	@param promotionId 프로모션 ID
+	@param entry 대기열 항목
+	@param maxQueueSize 대기열 최대 크기
+	@param memberBuckets 참여자 Hash 버킷 수 (프로모션별로 고정)
+	@param expireAtMillis 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+	@return 진입 결과
+	 */
+	QueueJoinResult join(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis);
+
+	/*
+	대기열 진입 (논블로킹, join과 동일한 스크립트를 리액티브 커넥션으로 실행)
+	@param promotionId 프로모션 ID
+	@param entry 대기열 항목
+	@param maxQueueSize 대기열 최대 크기
+	@param memberBuckets 참여자 Hash 버킷 수 (프로모션별로 고정)
+	@param expireAtMillis 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+	@return 진입 결과
+	 */
+	Mono<QueueJoinResult> joinAsync(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis);
+
+	/*
+	대기열에서 메시지를 한 번에 여러 개 꺼내기 (대기열 순서 유지)
+	형식이 잘못된 항목은 로그를 남기고 대기열에서 제거
+	@param promotionId 프로모션 ID
+	@param maxCount 최대 개수
+	@return 꺼낸 메시지 목록, 대기열이 비었으면 빈 목록
+	 */
+	List<QueueMessage> dequeue(UUID promotionId, int maxCount);
+
+	/*
+	처리 완료 (참여 기록 저장 이후 호출)
+	@param promotionId 프로모션 ID
+	@param messageIds 처리 완료된 메시지 ID
+	 */
+	void acknowledge(UUID promotionId, List<String> messageIds);
+
+	/*
+	꺼낸 메시지를 처리하지 않고 대기열 앞쪽으로 되돌림 (대기열 순서 유지)
+	@param promotionId 프로모션 ID
+	@param messages 되돌릴 메시지 (대기열 순서)
+	 */
+	void requeue(UUID promotionId, List<QueueMessage> messages);
+
+	/*
+	대기열 크기 조회 (미처리 + 처리 중)
+	@param promotionId 프로모션 ID
+	@return 대기열 크기
+	 */
+	long size(UUID promotionId);
+
+	/*
+	대기열 크기 조회 명령을 파이프라인에 추가 (현황 조회를 한 번의 왕복으로 처리)
+	추가한 명령의 결과(Long)를 모두 더하면 대기열 크기
+	@param connection 파이프라인 커넥션
+	@param promotionId 프로모션 ID
+	@return 추가한 명령 수
+	 */
+	int pipelineSize(RedisConnection connection, UUID promotionId);
+
+	/*
+	참여자 Hash 버킷 Key (사용자 ID -> 참여 순번, 대기 순서 조회용)
+	@param promotionId 프로모션 ID
+	@param memberBuckets 참여자 Hash 버킷 수 (join에 넘긴 값과 같아야 함)
+	@param userId 사용자 ID
+	@return 참여자 Hash 버킷 Key
+	 */
+	default String membersKey(UUID promotionId, int memberBuckets, UUID userId) {
+		return RedisKeyGenerator.membersKey(promotionId, memberBuckets, userId);
+	}
+
+	/*
+	사용자의 참여 순번과 비교할 처리 완료 커서 Key
+	@param promotionId 프로모션 ID
+	@param userId 사용자 ID
+	@return 처리 완료 커서 Key
+	 */
+	default String drainedKey(UUID promotionId, UUID userId) {
+		return RedisKeyGenerator.drainedKey(promotionId);
+	}
+
+	/*
+	참여자 수 조회 명령을 파이프라인에 추가 (거절된 요청은 순번을 발급받지 않으므로 발급된 참여 순번 = 참여자 수)
+	추가한 명령의 결과를 모두 더하면 참여자 수
+	@param connection 파이프라인 커넥션
+	@param promotionId 프로모션 ID
+	@return 추가한 명령 수
+	 */
+	default int pipelineParticipants(RedisConnection connection, UUID promotionId) {
+		connection.stringCommands().get(RedisKeyGenerator.sequenceKey(promotionId).getBytes(StandardCharsets.UTF_8));
+		return 1;
+	}
+
+	/*
+	재고 소진 표시 (참여 스크립트가 프로모션 슬롯의 재고 소진 플래그를 볼 수 없는 백엔드만 구현)
+	@param promotionId 프로모션 ID
+	@param expireAtMillis 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+	 */
+	default void markSoldOut(UUID promotionId, long expireAtMillis) {
+	}
+
+	// 참여자 Hash 필드 (사용자 ID 16바이트)
+	static byte[] memberField(UUID userId) {
+		return ByteBuffer.allocate(16)
+			.putLong(userId.getMostSignificantBits())
+			.putLong(userId.getLeastSignificantBits())
+			.array();
+	}
+}
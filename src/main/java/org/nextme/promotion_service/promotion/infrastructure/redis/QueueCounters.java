@@ -0,0 +1,14 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+/*
+프로모션 참여 현황 카운터 (Redis)
+@param queueSize 대기열 크기
+@param participantCount 총 참여자 수
+@param winnerCount 현재 당첨자 수
+ */
+public record QueueCounters(
+	long queueSize,
+	long participantCount,
+	long winnerCount
+) {
+}
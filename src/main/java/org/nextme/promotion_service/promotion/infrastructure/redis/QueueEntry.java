@@ -0,0 +1,18 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.UUID;
+
+/*
+대기열 항목
+@param userId 사용자 ID
+@param ipAddress 참여 시점의 IP 주소 (알 수 없으면 null)
+@param userAgentId User-Agent 사전 ID (UserAgentDictionary, 없으면 0)
+@param joinedAtMillis 대기열 진입 시각 (epoch millis)
+ */
+public record QueueEntry(
+	UUID userId,
+	String ipAddress,
+	int userAgentId,
+	long joinedAtMillis
+) {
+}
@@ -0,0 +1,289 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+대기열 항목 바이너리 코덱
+[버전 1B][사용자 ID 16B][IP 길이 1B][IP 0/4/16B][진입 시각 8B][User-Agent ID 4B]
+IPv4 기준 34바이트로, 문자열 + JSON 직렬화 대비 대기열 메모리와 파싱 비용을 줄임
+IP 리터럴로 해석되지 않는 값은 문자열 그대로 저장 (IP 길이 최상위 비트 + UTF-8 길이, 최대 45자)
+대기열에는 참여 스크립트가 발급한 참여 순번을 앞에 붙여 저장 [참여 순번 8B][대기열 항목]
+샤드 대기열은 참여 시각(Redis 서버 시각 us)을 더 붙여 저장 [참여 순번 8B][참여 시각 8B][대기열 항목]
+ */
+public final class QueueEntryCodec {
+
+	private static final byte VERSION_1 = 1;
+
+	// 버전(1) + UUID(16) + IP 길이(1) + 진입 시각(8) + User-Agent ID(4)
+	private static final int FIXED_SIZE = 1 + 16 + 1 + 8 + 4;
+
+	// 대기열 데이터 앞에 붙는 참여 순번 길이 (long, 빅 엔디언)
+	public static final int TICKET_BYTES = Long.BYTES;
+
+	// 샤드 대기열 데이터의 참여 순번 뒤에 붙는 참여 시각 길이 (Redis 서버 시각 us, long, 빅 엔디언)
+	public static final int ARRIVAL_BYTES = Long.BYTES;
+
+	// IP 길이의 문자열 저장 표시 비트 (하위 7비트가 UTF-8 길이)
+	private static final int RAW_IP_FLAG = 0x80;
+
+	// 문자열로 저장하는 IP 최대 길이 (참여 기록 ip_address 컬럼 길이)
+	private static final int MAX_RAW_IP_LENGTH = 45;
+
+	private QueueEntryCodec() {
+	}
+
+	public static byte[] encode(QueueEntry entry) {
+		byte[] ip = packIp(entry.ipAddress());
+		boolean rawIp = ip.length == 0;
+		if (rawIp) {
+			ip = packRawIp(entry.ipAddress());
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(FIXED_SIZE + ip.length);
+		buffer.put(VERSION_1);
+		buffer.putLong(entry.userId().getMostSignificantBits());
+		buffer.putLong(entry.userId().getLeastSignificantBits());
+		buffer.put((byte) (rawIp && ip.length > 0 ? RAW_IP_FLAG | ip.length : ip.length));
+		buffer.put(ip);
+		buffer.putLong(entry.joinedAtMillis());
+		buffer.putInt(entry.userAgentId());
+		return buffer.array();
+	}
+
+	// 참여 순번을 앞에 붙여 인코딩 (대기열로 되돌릴 때 사용)
+	public static byte[] encodeTicketed(long ticket, QueueEntry entry) {
+		byte[] payload = encode(entry);
+		return ByteBuffer.allocate(TICKET_BYTES + payload.length)
+			.putLong(ticket)
+			.put(payload)
+			.array();
+	}
+
+	/*
+	참여 순번 읽기
+	@param data 참여 순번이 앞에 붙은 대기열 데이터
+	@return 참여 순번
+	@throws IllegalArgumentException 길이가 참여 순번보다 짧은 경우
+	 */
+	public static long readTicket(byte[] data) {
+		if (data == null || data.length < TICKET_BYTES) {
+			throw new IllegalArgumentException("대기열 데이터에 참여 순번이 없습니다.");
+		}
+		return ByteBuffer.wrap(data, 0, TICKET_BYTES).getLong();
+	}
+
+	/*
+	참여 순번 뒤의 대기열 항목 복원
+	@param data 참여 순번이 앞에 붙은 대기열 데이터
+	@return 대기열 항목
+	@throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못된 경우
+	 */
+	public static QueueEntry decodeTicketed(byte[] data) {
+		readTicket(data);
+		return decode(data, TICKET_BYTES);
+	}
+
+	/*
+	샤드 대기열 데이터의 참여 시각 읽기
+	@param data 참여 순번과 참여 시각이 앞에 붙은 대기열 데이터
+	@return 참여 시각 (Redis 서버 시각 us)
+	@throws IllegalArgumentException 길이가 참여 순번 + 참여 시각보다 짧은 경우
+	 */
+	public static long readArrivalMicros(byte[] data) {
+		if (data == null || data.length < TICKET_BYTES + ARRIVAL_BYTES) {
+			throw new IllegalArgumentException("대기열 데이터에 참여 시각이 없습니다.");
+		}
+		return ByteBuffer.wrap(data, TICKET_BYTES, ARRIVAL_BYTES).getLong();
+	}
+
+	/*
+	참여 순번과 참여 시각 뒤의 대기열 항목 복원 (샤드 대기열)
+	@param data 참여 순번과 참여 시각이 앞에 붙은 대기열 데이터
+	@return 대기열 항목
+	@throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못된 경우
+	 */
+	public static QueueEntry decodeArrived(byte[] data) {
+		readArrivalMicros(data);
+		return decode(data, TICKET_BYTES + ARRIVAL_BYTES);
+	}
+
+	/*
+	대기열 항목 복원
+	@param data 인코딩된 항목
+	@return 대기열 항목
+	@throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 잘못된 경우
+	 */
+	public static QueueEntry decode(byte[] data) {
+		return decode(data, 0);
+	}
+
+	private static QueueEntry decode(byte[] data, int offset) {
+		if (data == null || data.length - offset < FIXED_SIZE) {
+			throw new IllegalArgumentException("대기열 항목 길이가 올바르지 않습니다.");
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data, offset, data.length - offset);
+		byte version = buffer.get();
+		if (version != VERSION_1) {
+			throw new IllegalArgumentException("지원하지 않는 대기열 항목 버전입니다: " + version);
+		}
+
+		UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+		int ipHeader = buffer.get() & 0xFF;
+		boolean rawIp = (ipHeader & RAW_IP_FLAG) != 0;
+		int ipLength = rawIp ? ipHeader & ~RAW_IP_FLAG : ipHeader;
+		boolean validLength = rawIp ? ipLength > 0 : ipLength == 0 || ipLength == 4 || ipLength == 16;
+		if (!validLength || data.length - offset != FIXED_SIZE + ipLength) {
+			throw new IllegalArgumentException("대기열 항목 IP 길이가 올바르지 않습니다: " + ipHeader);
+		}
+		byte[] ip = new byte[ipLength];
+		buffer.get(ip);
+		long joinedAtMillis = buffer.getLong();
+		int userAgentId = buffer.getInt();
+
+		String ipAddress = rawIp ? new String(ip, StandardCharsets.UTF_8) : unpackIp(ip);
+		return new QueueEntry(userId, ipAddress, userAgentId, joinedAtMillis);
+	}
+
+	/*
+	IP 리터럴 변환 (클라이언트가 보낸 X-Forwarded-For 값일 수 있으므로 DNS 조회 없이 직접 해석)
+	@param ipAddress IP 문자열 (없으면 null)
+	@return IPv4 / IPv6 리터럴이면 4/16바이트, 아니면 빈 배열
+	 */
+	private static byte[] packIp(String ipAddress) {
+		if (ipAddress == null || ipAddress.isEmpty()) {
+			return new byte[0];
+		}
+		return ipAddress.indexOf(':') < 0 ? packIpv4(ipAddress) : packIpv6(ipAddress);
+	}
+
+	// IP 리터럴이 아닌 값은 최대 45자까지 UTF-8 문자열로 보관, 없으면 빈 배열
+	private static byte[] packRawIp(String ipAddress) {
+		if (ipAddress == null || ipAddress.isEmpty()) {
+			return new byte[0];
+		}
+		String raw = ipAddress.length() > MAX_RAW_IP_LENGTH ? ipAddress.substring(0, MAX_RAW_IP_LENGTH) : ipAddress;
+		byte[] encoded = raw.getBytes(StandardCharsets.UTF_8);
+		return encoded.length < RAW_IP_FLAG ? encoded : new byte[0];
+	}
+
+	// IPv6 리터럴을 16바이트로 변환 (:: 압축, 끝의 IPv4 표기 허용), 형식이 잘못되면 빈 배열
+	private static byte[] packIpv6(String ipAddress) {
+		int compressed = ipAddress.indexOf("::");
+		if (compressed >= 0 && ipAddress.indexOf("::", compressed + 1) >= 0) {
+			return new byte[0];
+		}
+		int[] head = parseGroups(compressed >= 0 ? ipAddress.substring(0, compressed) : ipAddress, compressed < 0);
+		int[] tail = compressed >= 0 ? parseGroups(ipAddress.substring(compressed + 2), true) : new int[0];
+		if (head == null || tail == null) {
+			return new byte[0];
+		}
+		int groups = head.length + tail.length;
+		if (compressed < 0 ? groups != 8 : groups > 7) {
+			return new byte[0];
+		}
+
+		byte[] packed = new byte[16];
+		for (int i = 0; i < head.length; i++) {
+			putGroup(packed, i, head[i]);
+		}
+		for (int i = 0; i < tail.length; i++) {
+			putGroup(packed, 8 - tail.length + i, tail[i]);
+		}
+		return packed;
+	}
+
+	// ':'로 나뉜 16비트 그룹 변환 (주소의 마지막 부분이면 끝의 IPv4 표기 허용), 형식이 잘못되면 null
+	private static int[] parseGroups(String part, boolean last) {
+		if (part.isEmpty()) {
+			return new int[0];
+		}
+		String[] tokens = part.split(":", -1);
+		int[] groups = new int[tokens.length + 1];
+		int count = 0;
+		for (int i = 0; i < tokens.length; i++) {
+			String token = tokens[i];
+			if (last && i == tokens.length - 1 && token.indexOf('.') >= 0) {
+				byte[] ipv4 = packIpv4(token);
+				if (ipv4.length != 4) {
+					return null;
+				}
+				groups[count++] = (ipv4[0] & 0xFF) << 8 | (ipv4[1] & 0xFF);
+				groups[count++] = (ipv4[2] & 0xFF) << 8 | (ipv4[3] & 0xFF);
+				continue;
+			}
+			if (token.isEmpty() || token.length() > 4) {
+				return null;
+			}
+			int value = 0;
+			for (int j = 0; j < token.length(); j++) {
+				int digit = hexDigit(token.charAt(j));
+				if (digit < 0) {
+					return null;
+				}
+				value = value * 16 + digit;
+			}
+			groups[count++] = value;
+		}
+		return Arrays.copyOf(groups, count);
+	}
+
+	private static int hexDigit(char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		}
+		if (c >= 'a' && c <= 'f') {
+			return c - 'a' + 10;
+		}
+		if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		return -1;
+	}
+
+	private static void putGroup(byte[] packed, int group, int value) {
+		packed[group * 2] = (byte) (value >>> 8);
+		packed[group * 2 + 1] = (byte) value;
+	}
+
+	private static byte[] packIpv4(String ipAddress) {
+		String[] octets = ipAddress.split("\\.", -1);
+		if (octets.length != 4) {
+			return new byte[0];
+		}
+		byte[] packed = new byte[4];
+		for (int i = 0; i < 4; i++) {
+			if (octets[i].isEmpty() || octets[i].length() > 3) {
+				return new byte[0];
+			}
+			int value = 0;
+			for (int j = 0; j < octets[i].length(); j++) {
+				char c = octets[i].charAt(j);
+				if (c < '0' || c > '9') {
+					return new byte[0];
+				}
+				value = value * 10 + (c - '0');
+			}
+			if (value > 255) {
+				return new byte[0];
+			}
+			packed[i] = (byte) value;
+		}
+		return packed;
+	}
+
+	private static String unpackIp(byte[] ip) {
+		if (ip.length == 0) {
+			return null;
+		}
+		try {
+			return InetAddress.getByAddress(ip).getHostAddress();
+		} catch (UnknownHostException e) {
+			return null;
+		}
+	}
+}
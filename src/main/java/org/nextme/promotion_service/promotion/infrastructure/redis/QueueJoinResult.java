@@ -0,0 +1,37 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.List;
+
+/*
+대기열 진입 스크립트 실행 결과
+@param status 진입 결과
+@param position 진입 직후 대기열 위치 (JOINED), 현재 대기열 크기 (QUEUE_FULL)
+@param ticket 발급된 참여 순번 (JOINED일 때만 유효)
+ */
+public record QueueJoinResult(
+	Status status,
+	long position,
+	long ticket
+) {
+	public enum Status {
+		JOINED,		// 대기열 진입
+		DUPLICATE,	// 중복 참여
+		QUEUE_FULL,	// 대기열 초과
+		SOLD_OUT	// 재고 소진
+	}
+
+	// 스크립트 반환값 {결과 코드, 위치, 순번} 변환 (리액티브 실행 시 한 단계 중첩된 결과도 처리)
+	public static QueueJoinResult from(List<?> raw) {
+		if (raw.size() == 1 && raw.get(0) instanceof List<?> nested) {
+			return from(nested);
+		}
+		Status status = Status.values()[((Number) raw.get(0)).intValue()];
+		long position = ((Number) raw.get(1)).longValue();
+		long ticket = ((Number) raw.get(2)).longValue();
+		return new QueueJoinResult(status, position, ticket);
+	}
+
+	public boolean isJoined() {
+		return status == Status.JOINED;
+	}
+}
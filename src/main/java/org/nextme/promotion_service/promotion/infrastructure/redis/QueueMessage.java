@@ -0,0 +1,14 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+/*
+대기열에서 꺼낸 메시지
+@param id 백엔드별 메시지 ID (Streams : ack용 항목 ID, 샤딩 List : 샤드와 참여 순번, List : null)
+@param entry 대기열 항목
+@param ticket 참여 순번 (처리 완료 커서 갱신용, 같은 항목이 다시 전달되어도 같은 값)
+ */
+public record QueueMessage(
+	String id,
+	QueueEntry entry,
+	long ticket
+) {
+}
@@ -0,0 +1,24 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+/*
+대기열 내 현재 위치
+@param ticket 참여 순번
+@param position 앞에 남은 인원 포함 현재 대기 순서 (참여 순번 - 처리 완료 커서, 0이면 처리 중이거나 처리 완료)
+@param drainRate 최근 초당 처리 건수 (측정값이 없으면 null)
+ */
+public record QueuePosition(
+	long ticket,
+	long position,
+	Double drainRate
+) {
+	// 예상 대기 시간 (초, 처리 속도를 모르면 null)
+	public Long estimatedWaitSeconds() {
+		if (position == 0) {
+			return 0L;
+		}
+		if (drainRate == null || drainRate <= 0) {
+			return null;
+		}
+		return (long) Math.ceil(position / drainRate);
+	}
+}
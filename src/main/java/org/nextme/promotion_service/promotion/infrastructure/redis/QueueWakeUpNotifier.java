@@ -0,0 +1,48 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+워커 깨우기 알림 (Redis Pub/Sub)
+- 참여 스크립트가 빈 대기열에 첫 항목을 넣을 때 발행
+- 처리 임대를 반납한 워커가 대기열이 남아 있을 때 다른 Pod를 깨우기 위해 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueWakeUpNotifier {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	/*
+	깨우기 알림 구독
+	@param handler 알림을 받은 프로모션 ID 처리
+	 */
+	public void subscribe(Consumer<UUID> handler) {
+		listenerContainer.addMessageListener((message, pattern) -> {
+			try {
+				handler.accept(UUID.fromString(new String(message.getBody())));
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 워커 깨우기 메시지 - body: {}", new String(message.getBody()));
+			}
+		}, new ChannelTopic(RedisKeyGenerator.QUEUE_WAKEUP_CHANNEL));
+	}
+
+	/*
+	깨우기 알림 발행 (모든 Pod)
+	@param promotionId 프로모션 ID
+	 */
+	public void publish(UUID promotionId) {
+		stringRedisTemplate.convertAndSend(RedisKeyGenerator.QUEUE_WAKEUP_CHANNEL, promotionId.toString());
+	}
+}
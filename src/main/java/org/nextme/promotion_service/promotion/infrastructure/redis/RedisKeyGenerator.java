@@ -5,25 +5,128 @@ import java.util.UUID;
 /*
 Redis Key 생성 유틸리티
 프로모션 관련 Redis Key를 일관되게 생성
+프로모션 ID를 해시 태그({})로 감싸 한 프로모션의 Key가 같은 슬롯에 배치되도록 함 (Lua 스크립트 다중 Key 접근용)
  */
 public class RedisKeyGenerator {
 
 	private static final String PREFIX = "promotion:";
 
+	// 프로모션 상태 변경 알림 채널 (로컬 캐시 무효화용)
+	public static final String PROMOTION_CHANGED_CHANNEL = "promotion:changed";
+
+	// 프로모션 재고 소진 알림 채널 (참여 차단용)
+	public static final String PROMOTION_SOLD_OUT_CHANNEL = "promotion:soldout";
+
+	// 워커 깨우기 채널 (빈 대기열에 첫 항목이 들어올 때 참여 스크립트에서 발행)
+	public static final String QUEUE_WAKEUP_CHANNEL = "promotion:wakeup";
+
+	// 참여 결과 확정 알림 채널 (결과 대기 요청 완료용, 워커가 배치마다 발행)
+	public static final String PARTICIPATION_RESULT_CHANNEL = "promotion:results";
+
 	/*
 	대기열 Key 생성
 	promotion:{promotionId}:queue
 	 */
 	public static String queueKey(UUID promotionId) {
-		return PREFIX + promotionId + ":queue";
+		return PREFIX + "{" + promotionId + "}:queue";
+	}
+
+	/*
+	대기열 Stream Key 생성 (promotion.queue.backend=stream)
+	promotion:{promotionId}:stream
+	 */
+	public static String streamKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:stream";
+	}
+
+	/*
+	샤드 대기열 Key 생성 (promotion.queue.backend=sharded-list)
+	샤드 번호까지 해시 태그에 포함해 샤드마다 다른 슬롯(Redis 노드)에 배치
+	promotion:{promotionId:shard}:queue
+	 */
+	public static String queueShardKey(UUID promotionId, int shard) {
+		return PREFIX + "{" + promotionId + ":" + shard + "}:queue";
+	}
+
+	// 참여자 Hash 버킷당 목표 항목 수 (Redis 기본 hash-max-listpack-entries 128의 절반, 버킷마다 편차가 있어도 listpack 인코딩 유지)
+	public static final int MEMBER_BUCKET_ENTRIES = 64;
+
+	// 참여자 Hash 최대 버킷 수 (약 10억 명)
+	private static final int MAX_MEMBER_BUCKETS = 1 << 24;
+
+	/*
+	참여자 Hash 버킷 수 계산 (예상 최대 참여자 수 / 버킷당 목표 항목 수를 2의 거듭제곱으로 올림)
+	작은 프로모션은 버킷이 적고, 큰 프로모션도 버킷마다 listpack 인코딩 한도 안에 머묾
+	예상 참여자 수는 프로모션 설정으로만 정해야 함 (진행 중에 버킷 수가 바뀌면 중복 체크가 어긋남)
+	@param expectedMembers 예상 최대 참여자 수
+	@return 버킷 수
+	 */
+	public static int memberBuckets(long expectedMembers) {
+		long buckets = Math.max(1L, (expectedMembers + MEMBER_BUCKET_ENTRIES - 1) / MEMBER_BUCKET_ENTRIES);
+		long powerOfTwo = buckets == 1L ? 1L : Long.highestOneBit(buckets - 1) << 1;
+		return (int) Math.min(powerOfTwo, MAX_MEMBER_BUCKETS);
+	}
+
+	/*
+	참여자 Hash 버킷 Key 생성 (사용자 ID 16바이트 -> 참여 순번, 중복 방지 + 대기 순서 조회용)
+	사용자 ID로 버킷을 나눠 버킷마다 작은 Hash(listpack)로 유지해 참여자당 메모리를 줄임
+	참여 순번은 중복 체크에 필요한 필드의 값으로 저장하므로 참여자별로 따로 저장하는 데이터가 없음
+	promotion:{promotionId}:members:{bucket}
+	 */
+	public static String membersKey(UUID promotionId, int buckets, UUID userId) {
+		return PREFIX + "{" + promotionId + "}:members:" + memberBucket(userId, buckets);
+	}
+
+	/*
+	샤드 참여자 Hash 버킷 Key 생성 (promotion.queue.backend=sharded-list, 사용자는 항상 같은 샤드에 참여)
+	promotion:{promotionId:shard}:members:{bucket}
+	 */
+	public static String shardMembersKey(UUID promotionId, int shard, int buckets, UUID userId) {
+		return PREFIX + "{" + promotionId + ":" + shard + "}:members:" + memberBucket(userId, buckets);
+	}
+
+	private static int memberBucket(UUID userId, int buckets) {
+		return (int) Math.floorMod(userId.getMostSignificantBits() ^ userId.getLeastSignificantBits(), (long) buckets);
+	}
+
+	/*
+	처리 완료 커서 Key 생성 (이 참여 순번까지 워커가 처리 완료)
+	promotion:{promotionId}:drained
+	 */
+	public static String drainedKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:drained";
+	}
+
+	/*
+	샤드 처리 완료 커서 Key 생성 (이 샤드에서 처리한 최대 참여 순번)
+	promotion:{promotionId:shard}:drained
+	 */
+	public static String shardDrainedKey(UUID promotionId, int shard) {
+		return PREFIX + "{" + promotionId + ":" + shard + "}:drained";
+	}
+
+	/*
+	대기열 처리 속도 Key 생성 (초당 처리 건수, 워커가 배치마다 갱신)
+	promotion:{promotionId}:rate
+	 */
+	public static String drainRateKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:rate";
+	}
+
+	/*
+	참여 결과 Hash Key 생성 (사용자 ID -> 당첨/탈락 결과)
+	promotion:{promotionId}:results
+	 */
+	public static String resultKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:results";
 	}
 
 	/*
-	참여 기록 Set Key 생성 (중복 방지용)
-	promotion:{promotionId}:joined
+	프로모션 목록 버전 Hash Key 생성 (목록 종류(ALL, 상태) -> 마지막 변경 버전)
+	promotion:list-version
 	 */
-	public static String joinedKey(UUID promotionId) {
-		return PREFIX + promotionId + ":joined";
+	public static String listVersionKey() {
+		return PREFIX + "list-version";
 	}
 
 	/*
@@ -31,6 +134,86 @@ public class RedisKeyGenerator {
 	promotion:{promotionId}:stock
 	 */
 	public static String stockKey(UUID promotionId) {
-		return PREFIX + promotionId + ":stock";
+		return PREFIX + "{" + promotionId + "}:stock";
+	}
+
+	/*
+	재고 소진 플래그 Key 생성 (당첨자 수가 총 재고에 도달하면 설정)
+	promotion:{promotionId}:soldout
+	 */
+	public static String soldOutKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:soldout";
+	}
+
+	/*
+	샤드 재고 소진 플래그 Key 생성 (워커가 재고 소진 커밋 이후 모든 샤드에 설정)
+	promotion:{promotionId:shard}:soldout
+	 */
+	public static String shardSoldOutKey(UUID promotionId, int shard) {
+		return PREFIX + "{" + promotionId + ":" + shard + "}:soldout";
+	}
+
+	/*
+	대기열 처리 임대 Hash Key 생성 (owner, token)
+	promotion:{promotionId}:lease
+	 */
+	public static String leaseKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:lease";
+	}
+
+	/*
+	대기열 처리 임대 펜싱 토큰 시퀀스 Key 생성
+	promotion:{promotionId}:fence
+	 */
+	public static String fenceKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:fence";
+	}
+
+	/*
+	참여 순번 Key 생성 (대기열 진입 시 발급)
+	promotion:{promotionId}:seq
+	 */
+	public static String sequenceKey(UUID promotionId) {
+		return PREFIX + "{" + promotionId + "}:seq";
+	}
+
+	/*
+	샤드 참여 순번 Key 생성 (샤드 안에서 발급한 참여 수)
+	promotion:{promotionId:shard}:seq
+	 */
+	public static String shardSequenceKey(UUID promotionId, int shard) {
+		return PREFIX + "{" + promotionId + ":" + shard + "}:seq";
+	}
+
+	/*
+	워커 Pod 하트비트 Sorted Set Key (score : 마지막 하트비트 시각)
+	promotion:{workers}:members
+	 */
+	public static String workersKey() {
+		return PREFIX + "{workers}:members";
+	}
+
+	/*
+	User-Agent -> 사전 ID Hash Key
+	promotion:{ua}:ids
+	 */
+	public static String userAgentIdsKey() {
+		return PREFIX + "{ua}:ids";
+	}
+
+	/*
+	사전 ID -> User-Agent Hash Key
+	promotion:{ua}:values
+	 */
+	public static String userAgentValuesKey() {
+		return PREFIX + "{ua}:values";
+	}
+
+	/*
+	User-Agent 사전 ID 시퀀스 Key
+	promotion:{ua}:seq
+	 */
+	public static String userAgentSequenceKey() {
+		return PREFIX + "{ua}:seq";
 	}
 }
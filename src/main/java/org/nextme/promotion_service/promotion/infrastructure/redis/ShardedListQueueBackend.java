@@ -0,0 +1,258 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/*
+샤딩 Redis List 대기열 백엔드 (초대형 프로모션용)
+- 한 프로모션의 참여 처리를 N개 샤드로 나누고, 샤드마다 다른 슬롯에 배치 (참여 부하와 대기열 메모리 분산)
+- 참여 : 사용자 ID로 정한 샤드 슬롯 하나에서 재고 소진 확인 / 중복 체크 / 대기 인원 확인 / 순번 발급 / 대기열 등록을 한 스크립트로 처리
+  프로모션 슬롯을 거치지 않으므로 참여 처리량이 샤드 수만큼 늘고, 참여 한 번은 Redis 왕복 한 번
+  중복 체크와 등록이 한 스크립트이므로 중간에 장애가 나도 참여자로 기록되고 대기열에 없는 상태가 생기지 않음
+- 워커 : 모든 샤드의 앞쪽을 읽기만 하고(LRANGE) 참여 시각(Redis 서버 시각)으로 병합
+  커밋 이후 처리한 항목만 샤드에서 제거하므로 처리 중 장애가 나도 항목이 유실되지 않음
+
+순서 보장
+- 샤드 안에서는 등록 순서 = 참여 시각 순서이고, 읽은 뒤 등록되는 항목은 읽은 시점보다 늦은 참여 시각을 가지므로
+  읽은 항목을 참여 시각으로 병합하면 선착순이 유지됨 (도착하지 않은 순번을 기다리지 않음)
+- 샤드가 서로 다른 Redis 노드에 있으면 노드 간 시계 차이만큼 샤드 사이의 순서가 어긋날 수 있음
+- 재고 소진은 워커가 커밋 이후 모든 샤드에 표시 (그 전에 들어온 참여는 탈락으로 처리)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "promotion.queue.backend", havingValue = "sharded-list")
+@RequiredArgsConstructor
+public class ShardedListQueueBackend implements QueueBackend {
+
+	private final RedisTemplate<String, byte[]> queueRedisTemplate;
+	private final ReactiveRedisTemplate<String, byte[]> reactiveQueueRedisTemplate;
+
+	// 프로모션당 샤드 수 (진행 중인 프로모션이 있을 때 바꾸면 중복 체크가 어긋남)
+	@Value("${promotion.queue.shards:4}")
+	private int shardCount;
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> JOIN_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_join_shard.lua"), List.class);
+
+	private static final RedisScript<Long> ACK_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_shard_ack.lua"), Long.class);
+
+	// 읽은 항목의 최소 길이 (참여 순번 + 참여 시각)
+	private static final int HEADER_BYTES = QueueEntryCodec.TICKET_BYTES + QueueEntryCodec.ARRIVAL_BYTES;
+
+	@Override
+	public QueueJoinResult join(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		List<?> result = queueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), joinArgs(promotionId, entry, maxQueueSize, expireAtMillis));
+		return QueueJoinResult.from(result);
+	}
+
+	@Override
+	public Mono<QueueJoinResult> joinAsync(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		return reactiveQueueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), List.of(joinArgs(promotionId, entry, maxQueueSize, expireAtMillis)))
+			.collectList()
+			.map(QueueJoinResult::from);
+	}
+
+	@Override
+	public List<QueueMessage> dequeue(UUID promotionId, int maxCount) {
+		// 1. 모든 샤드의 앞쪽 maxCount개를 한 번의 파이프라인으로 조회 (꺼내지 않음)
+		List<Object> results = queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int shard = 0; shard < shardCount; shard++) {
+				connection.listCommands().lRange(bytes(RedisKeyGenerator.queueShardKey(promotionId, shard)), 0, maxCount - 1);
+			}
+			return null;
+		});
+
+		List<ShardItem> items = new ArrayList<>();
+		for (int shard = 0; shard < shardCount; shard++) {
+			List<?> values = (List<?>) results.get(shard);
+			if (values == null) {
+				continue;
+			}
+			for (int index = 0; index < values.size(); index++) {
+				byte[] value = (byte[]) values.get(index);
+				if (value == null || value.length < HEADER_BYTES) {
+					removeMalformed(promotionId, shard, value);
+					continue;
+				}
+				items.add(new ShardItem(shard, index, QueueEntryCodec.readTicket(value), QueueEntryCodec.readArrivalMicros(value), value));
+			}
+		}
+
+		if (items.isEmpty()) {
+			return List.of();
+		}
+
+		// 2. 참여 시각으로 병합해 앞에서부터 maxCount개 (샤드마다 앞쪽 maxCount개를 읽었으므로 전체의 앞쪽 maxCount개와 같음)
+		items.sort(Comparator.comparingLong(ShardItem::arrivalMicros).thenComparingLong(ShardItem::ticket));
+
+		List<QueueMessage> messages = new ArrayList<>(Math.min(items.size(), maxCount));
+		for (ShardItem item : items) {
+			if (messages.size() >= maxCount) {
+				break;
+			}
+			try {
+				messages.add(new QueueMessage(messageId(item), QueueEntryCodec.decodeArrived(item.value()), item.ticket()));
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 큐 데이터 형식 - promotionId: {}, ticket: {}, error: {}", promotionId, item.ticket(), e.getMessage());
+				removeMalformed(promotionId, item.shard(), item.value());
+			}
+		}
+		return messages;
+	}
+
+	@Override
+	public void acknowledge(UUID promotionId, List<String> messageIds) {
+		// 샤드별로 모아 처리한 참여 순번의 항목만 제거
+		Map<Integer, List<Object>> ticketsByShard = new HashMap<>();
+		Map<Integer, Integer> windows = new HashMap<>();
+		for (String messageId : messageIds) {
+			String[] parts = messageId.split(":");
+			int shard = Integer.parseInt(parts[0]);
+			int index = Integer.parseInt(parts[1]);
+			ticketsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(bytes(parts[2]));
+			windows.merge(shard, index + 1, Math::max);
+		}
+
+		ticketsByShard.forEach((shard, tickets) -> {
+			Object[] args = new Object[tickets.size() + 1];
+			args[0] = bytes(String.valueOf(windows.get(shard)));
+			for (int i = 0; i < tickets.size(); i++) {
+				args[i + 1] = tickets.get(i);
+			}
+			queueRedisTemplate.execute(ACK_SCRIPT, List.of(RedisKeyGenerator.queueShardKey(promotionId, shard)), args);
+		});
+	}
+
+	@Override
+	public void requeue(UUID promotionId, List<QueueMessage> messages) {
+		// 읽기만 하고 처리 완료 전에는 제거하지 않으므로 항목은 샤드 앞쪽에 그대로 남아 있음
+	}
+
+	@Override
+	public long size(UUID promotionId) {
+		List<Object> sizes = queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			pipelineSize(connection, promotionId);
+			return null;
+		});
+		long total = 0L;
+		for (Object size : sizes) {
+			total += size != null ? (Long) size : 0L;
+		}
+		return total;
+	}
+
+	@Override
+	public int pipelineSize(RedisConnection connection, UUID promotionId) {
+		for (int shard = 0; shard < shardCount; shard++) {
+			connection.listCommands().lLen(bytes(RedisKeyGenerator.queueShardKey(promotionId, shard)));
+		}
+		return shardCount;
+	}
+
+	@Override
+	public String membersKey(UUID promotionId, int memberBuckets, UUID userId) {
+		return RedisKeyGenerator.shardMembersKey(promotionId, shardOf(userId), shardMemberBuckets(memberBuckets), userId);
+	}
+
+	@Override
+	public String drainedKey(UUID promotionId, UUID userId) {
+		return RedisKeyGenerator.shardDrainedKey(promotionId, shardOf(userId));
+	}
+
+	@Override
+	public int pipelineParticipants(RedisConnection connection, UUID promotionId) {
+		for (int shard = 0; shard < shardCount; shard++) {
+			connection.stringCommands().get(bytes(RedisKeyGenerator.shardSequenceKey(promotionId, shard)));
+		}
+		return shardCount;
+	}
+
+	@Override
+	public void markSoldOut(UUID promotionId, long expireAtMillis) {
+		queueRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int shard = 0; shard < shardCount; shard++) {
+				byte[] key = bytes(RedisKeyGenerator.shardSoldOutKey(promotionId, shard));
+				connection.stringCommands().set(key, bytes("1"));
+				connection.keyCommands().pExpireAt(key, expireAtMillis);
+			}
+			return null;
+		});
+	}
+
+	// 형식이 잘못된 항목 제거 (샤드 앞쪽에 남아 이후 항목을 막지 않도록)
+	private void removeMalformed(UUID promotionId, int shard, byte[] value) {
+		log.warn("잘못된 큐 데이터 형식 - promotionId: {}, shard: {}", promotionId, shard);
+		if (value != null) {
+			queueRedisTemplate.opsForList().remove(RedisKeyGenerator.queueShardKey(promotionId, shard), 1, value);
+		}
+	}
+
+	// 메시지 ID "샤드:읽은 위치:참여 순번" (처리 완료 시 제거할 샤드와 범위, 항목 확인용)
+	private String messageId(ShardItem item) {
+		return item.shard() + ":" + item.index() + ":" + item.ticket();
+	}
+
+	// 사용자 ID로 샤드 선택 (같은 사용자는 항상 같은 샤드에서 중복 체크)
+	private int shardOf(UUID userId) {
+		return Math.floorMod(userId.hashCode(), shardCount);
+	}
+
+	// 샤드별 참여자 Hash 버킷 수 (샤드마다 참여자가 나뉘므로 버킷도 나눔)
+	private int shardMemberBuckets(int memberBuckets) {
+		return Math.max(1, memberBuckets / shardCount);
+	}
+
+	private List<String> joinKeys(UUID promotionId, QueueEntry entry, int memberBuckets) {
+		int shard = shardOf(entry.userId());
+		return List.of(
+			RedisKeyGenerator.shardSoldOutKey(promotionId, shard),
+			RedisKeyGenerator.shardMembersKey(promotionId, shard, shardMemberBuckets(memberBuckets), entry.userId()),
+			RedisKeyGenerator.shardSequenceKey(promotionId, shard),
+			RedisKeyGenerator.shardDrainedKey(promotionId, shard),
+			RedisKeyGenerator.queueShardKey(promotionId, shard)
+		);
+	}
+
+	private Object[] joinArgs(UUID promotionId, QueueEntry entry, int maxQueueSize, long expireAtMillis) {
+		// 대기열 최대 크기는 샤드마다 나눠 적용
+		int maxShardSize = (maxQueueSize + shardCount - 1) / shardCount;
+		return new Object[] {
+			QueueBackend.memberField(entry.userId()),
+			bytes(String.valueOf(maxShardSize)),
+			QueueEntryCodec.encode(entry),
+			bytes(String.valueOf(shardOf(entry.userId()))),
+			bytes(String.valueOf(shardCount)),
+			bytes(RedisKeyGenerator.QUEUE_WAKEUP_CHANNEL),
+			bytes(promotionId.toString()),
+			bytes(String.valueOf(expireAtMillis))
+		};
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private record ShardItem(int shard, int index, long ticket, long arrivalMicros, byte[] value) {
+	}
+}
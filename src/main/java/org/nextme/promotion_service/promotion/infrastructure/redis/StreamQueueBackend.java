@@ -0,0 +1,190 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/*
+Redis Streams 대기열 백엔드
+- 참여 : XADD
+- 워커 : XREADGROUP으로 읽고 참여 기록 저장 후 XACK + XDEL
+- 읽는 순서 : 자신의 처리 중 항목 (롤백 / ack 실패) -> 다른 컨슈머가 남긴 처리 중 항목 (XAUTOCLAIM) -> 새 항목
+  처리 중 항목이 새 항목보다 먼저 처리되어 선착순 유지, 다시 처리해도 참여 기록 저장이 멱등이므로 재고를 쓰지 않음
+- 항목 데이터 앞에는 참여 순번이 붙어 있어 다시 전달되어도 처리 완료 커서가 중복 증가하지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "promotion.queue.backend", havingValue = "stream")
+@RequiredArgsConstructor
+public class StreamQueueBackend implements QueueBackend {
+
+	private final RedisTemplate<String, byte[]> queueRedisTemplate;
+	private final ReactiveRedisTemplate<String, byte[]> reactiveQueueRedisTemplate;
+
+	// 컨슈머 이름 (쿠버네티스에서는 Pod 이름)
+	@Value("${HOSTNAME:${random.uuid}}")
+	private String consumerName;
+
+	// 다른 컨슈머의 처리 중 항목 회수 기준 유휴 시간 (처리 임대로 한 번에 한 컨슈머만 처리하므로 기본값 0 : 바로 회수)
+	@Value("${promotion.queue.stream.claim-idle-millis:0}")
+	private long claimIdleMillis;
+
+	public static final String CONSUMER_GROUP = "promotion-worker";
+
+	// Stream 항목의 대기열 데이터 필드
+	private static final String ENTRY_FIELD = "e";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> JOIN_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_join_stream.lua"), List.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_stream_read.lua"), List.class);
+
+	private static final RedisScript<Long> ACK_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/promotion_stream_ack.lua"), Long.class);
+
+	@Override
+	public QueueJoinResult join(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		List<?> result = queueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), joinArgs(promotionId, entry, maxQueueSize, expireAtMillis));
+		return QueueJoinResult.from(result);
+	}
+
+	@Override
+	public Mono<QueueJoinResult> joinAsync(UUID promotionId, QueueEntry entry, int maxQueueSize, int memberBuckets, long expireAtMillis) {
+		return reactiveQueueRedisTemplate.execute(JOIN_SCRIPT, joinKeys(promotionId, entry, memberBuckets), List.of(joinArgs(promotionId, entry, maxQueueSize, expireAtMillis)))
+			.collectList()
+			.map(QueueJoinResult::from);
+	}
+
+	@Override
+	public List<QueueMessage> dequeue(UUID promotionId, int maxCount) {
+		while (true) {
+			List<?> records = read(promotionId, maxCount);
+			if (records.isEmpty()) {
+				return List.of();
+			}
+
+			// 형식이 잘못된 항목만 읽힌 경우 다시 읽기
+			List<QueueMessage> messages = decode(promotionId, records);
+			if (!messages.isEmpty()) {
+				return messages;
+			}
+		}
+	}
+
+	@Override
+	public void acknowledge(UUID promotionId, List<String> messageIds) {
+		if (messageIds.isEmpty()) {
+			return;
+		}
+
+		Object[] args = new Object[messageIds.size() + 1];
+		args[0] = bytes(CONSUMER_GROUP);
+		for (int i = 0; i < messageIds.size(); i++) {
+			args[i + 1] = bytes(messageIds.get(i));
+		}
+		queueRedisTemplate.execute(ACK_SCRIPT, List.of(RedisKeyGenerator.streamKey(promotionId)), args);
+	}
+
+	@Override
+	public void requeue(UUID promotionId, List<QueueMessage> messages) {
+		// ack 하지 않은 항목은 처리 중 목록에 남아 유휴 시간 후 다른 컨슈머가 회수
+	}
+
+	@Override
+	public long size(UUID promotionId) {
+		Long size = queueRedisTemplate.opsForStream().size(RedisKeyGenerator.streamKey(promotionId));
+		return size != null ? size : 0L;
+	}
+
+	@Override
+	public int pipelineSize(RedisConnection connection, UUID promotionId) {
+		connection.streamCommands().xLen(RedisKeyGenerator.streamKey(promotionId).getBytes(StandardCharsets.UTF_8));
+		return 1;
+	}
+
+	private List<String> joinKeys(UUID promotionId, QueueEntry entry, int memberBuckets) {
+		return List.of(
+			RedisKeyGenerator.membersKey(promotionId, memberBuckets, entry.userId()),
+			RedisKeyGenerator.streamKey(promotionId),
+			RedisKeyGenerator.sequenceKey(promotionId),
+			RedisKeyGenerator.soldOutKey(promotionId)
+		);
+	}
+
+	private Object[] joinArgs(UUID promotionId, QueueEntry entry, int maxQueueSize, long expireAtMillis) {
+		return new Object[] {
+			QueueBackend.memberField(entry.userId()),
+			String.valueOf(maxQueueSize).getBytes(StandardCharsets.UTF_8),
+			QueueEntryCodec.encode(entry),
+			RedisKeyGenerator.QUEUE_WAKEUP_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			promotionId.toString().getBytes(StandardCharsets.UTF_8),
+			String.valueOf(expireAtMillis).getBytes(StandardCharsets.UTF_8)
+		};
+	}
+
+	// 컨슈머 그룹으로 항목 읽기 (처리 중 항목 우선)
+	private List<?> read(UUID promotionId, int count) {
+		return queueRedisTemplate.execute(READ_SCRIPT,
+			List.of(RedisKeyGenerator.streamKey(promotionId)),
+			bytes(CONSUMER_GROUP),
+			bytes(consumerName),
+			bytes(String.valueOf(count)),
+			bytes(String.valueOf(claimIdleMillis)));
+	}
+
+	// Stream 항목 복원 (형식이 잘못된 항목은 즉시 ack 처리 후 제외)
+	private List<QueueMessage> decode(UUID promotionId, List<?> records) {
+		List<QueueMessage> messages = new ArrayList<>(records.size());
+		List<String> malformed = new ArrayList<>();
+
+		for (Object record : records) {
+			List<?> fields = (List<?>) record;
+			String id = new String((byte[]) fields.get(0), StandardCharsets.UTF_8);
+			byte[] value = entryValue(fields.size() > 1 ? (List<?>) fields.get(1) : null);
+
+			try {
+				messages.add(new QueueMessage(id, QueueEntryCodec.decodeTicketed(value), QueueEntryCodec.readTicket(value)));
+			} catch (IllegalArgumentException e) {
+				malformed.add(id);
+				log.warn("잘못된 큐 데이터 형식 - promotionId: {}, id: {}, error: {}", promotionId, id, e.getMessage());
+			}
+		}
+
+		acknowledge(promotionId, malformed);
+		return messages;
+	}
+
+	// {필드, 값, ...} 에서 대기열 데이터 추출 (삭제된 항목은 null)
+	private byte[] entryValue(List<?> fieldValues) {
+		if (fieldValues == null) {
+			return null;
+		}
+		for (int i = 0; i + 1 < fieldValues.size(); i += 2) {
+			if (ENTRY_FIELD.equals(new String((byte[]) fieldValues.get(i), StandardCharsets.UTF_8))) {
+				return (byte[]) fieldValues.get(i + 1);
+			}
+		}
+		return null;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
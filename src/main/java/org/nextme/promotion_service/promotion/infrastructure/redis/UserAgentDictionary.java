@@ -0,0 +1,145 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/*
+User-Agent 사전
+대기열 항목에는 User-Agent 문자열 대신 Redis에서 발급한 정수 ID만 저장
+발급된 ID는 변하지 않으므로 Pod 로컬에 캐싱
+User-Agent는 클라이언트가 임의로 보낼 수 있으므로 사전 크기를 제한하고, 가득 차면 새 User-Agent는 UNKNOWN으로 저장
+(UNKNOWN 결과도 로컬에 캐싱해 같은 User-Agent로 Redis를 다시 요청하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAgentDictionary {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+	// User-Agent 없음
+	public static final int UNKNOWN = 0;
+
+	// 참여 기록 컬럼 길이와 동일
+	private static final int MAX_LENGTH = 500;
+
+	// 로컬 캐시 최대 크기 (초과 시 비움)
+	private static final int MAX_CACHE_SIZE = 10_000;
+
+	private static final RedisScript<Long> ID_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/user_agent_id.lua"), Long.class);
+
+	// 사전 최대 크기 (Redis에 저장하는 User-Agent 수)
+	@Value("${promotion.user-agent.max-entries:10000}")
+	private int maxEntries;
+
+	private final Map<String, Integer> idCache = new ConcurrentHashMap<>();
+	private final Map<Integer, String> valueCache = new ConcurrentHashMap<>();
+
+	/*
+	User-Agent ID 조회 (없으면 발급)
+	@param userAgent User-Agent 문자열
+	@return User-Agent ID, null 또는 빈 문자열이면 UNKNOWN
+	 */
+	public int idOf(String userAgent) {
+		if (userAgent == null || userAgent.isEmpty()) {
+			return UNKNOWN;
+		}
+		String normalized = normalize(userAgent);
+
+		Integer cached = idCache.get(normalized);
+		if (cached != null) {
+			return cached;
+		}
+
+		Long id = stringRedisTemplate.execute(ID_SCRIPT, keys(), normalized, String.valueOf(maxEntries));
+
+		int userAgentId = id.intValue();
+		cache(normalized, userAgentId);
+		return userAgentId;
+	}
+
+	/*
+	User-Agent ID 조회 (논블로킹, 로컬 캐시에 있으면 Redis 요청 없음)
+	@param userAgent User-Agent 문자열
+	@return User-Agent ID, null 또는 빈 문자열이면 UNKNOWN
+	 */
+	public Mono<Integer> idOfAsync(String userAgent) {
+		if (userAgent == null || userAgent.isEmpty()) {
+			return Mono.just(UNKNOWN);
+		}
+		String normalized = normalize(userAgent);
+
+		Integer cached = idCache.get(normalized);
+		if (cached != null) {
+			return Mono.just(cached);
+		}
+
+		return reactiveStringRedisTemplate.execute(ID_SCRIPT, keys(), List.of(normalized, String.valueOf(maxEntries)))
+			.next()
+			.map(id -> {
+				cache(normalized, id.intValue());
+				return id.intValue();
+			});
+	}
+
+	/*
+	User-Agent 문자열 조회
+	@param userAgentId User-Agent ID
+	@return User-Agent 문자열, 없으면 null
+	 */
+	public String valueOf(int userAgentId) {
+		if (userAgentId == UNKNOWN) {
+			return null;
+		}
+
+		String cached = valueCache.get(userAgentId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Object value = stringRedisTemplate.opsForHash()
+			.get(RedisKeyGenerator.userAgentValuesKey(), String.valueOf(userAgentId));
+		if (value == null) {
+			return null;
+		}
+
+		String userAgent = value.toString();
+		cache(userAgent, userAgentId);
+		return userAgent;
+	}
+
+	private String normalize(String userAgent) {
+		return userAgent.length() > MAX_LENGTH ? userAgent.substring(0, MAX_LENGTH) : userAgent;
+	}
+
+	private List<String> keys() {
+		return List.of(
+			RedisKeyGenerator.userAgentIdsKey(),
+			RedisKeyGenerator.userAgentValuesKey(),
+			RedisKeyGenerator.userAgentSequenceKey()
+		);
+	}
+
+	private void cache(String userAgent, int userAgentId) {
+		if (idCache.size() >= MAX_CACHE_SIZE) {
+			idCache.clear();
+			valueCache.clear();
+		}
+		idCache.put(userAgent, userAgentId);
+		if (userAgentId != UNKNOWN) {
+			valueCache.put(userAgentId, userAgent);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.util.List;
+
+/*
+배치 단위로 할당된 당첨 순번 구간
+@param firstPosition 첫 당첨 순번
+@param count 할당된 당첨 순번 개수 (0이면 재고 소진)
+@param soldOut 이번 할당으로 재고 소진 플래그가 처음 설정되었는지 여부
+@param leaseLost 처리 임대를 잃어 할당이 거절되었는지 여부
+ */
+public record WinnerSlots(
+	long firstPosition,
+	int count,
+	boolean soldOut,
+	boolean leaseLost
+) {
+	// 스크립트 반환값 {첫 당첨 순번, 할당 개수, 재고 소진 플래그 최초 설정 여부, 임대 상실 여부} 변환
+	public static WinnerSlots from(List<?> raw) {
+		long firstPosition = ((Number) raw.get(0)).longValue();
+		int count = ((Number) raw.get(1)).intValue();
+		boolean soldOut = ((Number) raw.get(2)).intValue() == 1;
+		boolean leaseLost = ((Number) raw.get(3)).intValue() == 1;
+		return new WinnerSlots(firstPosition, count, soldOut, leaseLost);
+	}
+
+	// 할당되지 않은 구간 (새로 저장된 참여 기록이 없어 할당을 요청하지 않은 경우)
+	public static WinnerSlots none() {
+		return new WinnerSlots(0L, 0, false, false);
+	}
+
+	// 구간의 마지막 당첨 순번
+	public long lastPosition() {
+		return firstPosition + count - 1;
+	}
+
+	// 배치 내 index번째(대기열 순서) 항목의 당첨 여부
+	public boolean isWinner(int index) {
+		return index < count;
+	}
+
+	// 배치 내 index번째 당첨자의 당첨 순번
+	public long positionOf(int index) {
+		return firstPosition + index;
+	}
+}
@@ -1,20 +1,23 @@
 package org.nextme.promotion_service.promotion.presentation;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.nextme.common.security.UserPrincipal;
 import org.nextme.infrastructure.success.CustomResponse;
 import org.nextme.promotion_service.promotion.application.PromotionParticipationService;
 import org.nextme.promotion_service.promotion.application.PromotionService;
 import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.nextme.promotion_service.promotion.infrastructure.redis.PromotionListVersion;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionCreateRequest;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionJoinResponse;
+import org.nextme.promotion_service.promotion.presentation.dto.PromotionPageResponse;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionResponse;
 import org.nextme.promotion_service.promotion.presentation.dto.PromotionStatusResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.nextme.promotion_service.promotion.presentation.dto.QueuePositionResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,6 +50,10 @@ public class PromotionController {
 	private final PromotionService promotionService;
 	private final PromotionParticipationService participationService;
 
+	// 참여 API 논블로킹 처리 여부 (블로킹 / 논블로킹 부하 비교용)
+	@Value("${promotion.join.async:false}")
+	private boolean asyncJoin;
+
 	/*
 	프로모션 생성 API
 	@param request 프로모션 생성 요청
@@ -62,23 +70,31 @@ public class PromotionController {
 	}
 
 	/*
-	프로모션 목록 조회 API
+	프로모션 목록 조회 API (최신순, 커서 기반)
+	목록 버전으로 ETag / Last-Modified를 응답하고, 목록이 바뀌지 않았으면 DB 조회 없이 304로 응답
 	@param status 프로모션 상태 (선택)
-	@param pageable 페이징 정보
-	@return 프로모션 목록
+	@param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+	@param size 페이지 크기
+	@return 프로모션 목록 페이지
 	 */
-	@Operation(summary = "프로모션 목록 조회", description = "전체 또는 상태별 프로모션 목록을 페이징하여 조회합니다.")
+	@Operation(summary = "프로모션 목록 조회", description = "전체 또는 상태별 프로모션 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 요청합니다.")
 	@GetMapping
-	public ResponseEntity<CustomResponse<Page<PromotionResponse>>> getPromotions(
+	public ResponseEntity<CustomResponse<PromotionPageResponse>> getPromotions(
 		@Parameter(description = "프로모션 상태 (SCHEDULED, ACTIVE, ENDED)")
 		@RequestParam(required = false) PromotionStatus status,
-		@Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
-		@RequestParam(defaultValue = "0") int page,
-		@Parameter(description = "페이지 크기", example = "20")
-		@RequestParam(defaultValue = "20") int size
+		@Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size,
+		WebRequest webRequest
 	) {
-		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-		Page<PromotionResponse> response = promotionService.getPromotions(status, pageable);
+		// 조건부 요청 확인 (일치하면 ETag / Last-Modified와 함께 304 응답)
+		Optional<PromotionListVersion> version = promotionService.getPromotionListVersion(status);
+		if (version.isPresent() && webRequest.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+			return null;
+		}
+
+		PromotionPageResponse response = promotionService.getPromotions(status, cursor, size);
 		return ResponseEntity.ok(CustomResponse.onSuccess(response));
 	}
 
@@ -130,6 +146,22 @@ public class PromotionController {
 		return ResponseEntity.ok(CustomResponse.onSuccess(response));
 	}
 
+	/*
+	프로모션 참여 현황 일괄 조회 API (대시보드용)
+	@param promotionIds 프로모션 ID 목록
+	@return 참여 현황 정보 목록 (존재하지 않는 프로모션은 제외)
+	 */
+	@PreAuthorize("hasRole('MANAGER')")
+	@Operation(summary = "프로모션 참여 현황 일괄 조회", description = "여러 프로모션의 대기열 크기, 참여자 수, 당첨자 수 등의 현황을 한 번에 조회합니다.")
+	@GetMapping("/status")
+	public ResponseEntity<CustomResponse<List<PromotionStatusResponse>>> getPromotionStatuses(
+		@Parameter(description = "프로모션 ID 목록 (쉼표로 구분)", required = true)
+		@RequestParam("ids") List<UUID> promotionIds
+	) {
+		List<PromotionStatusResponse> response = promotionService.getPromotionStatuses(promotionIds);
+		return ResponseEntity.ok(CustomResponse.onSuccess(response));
+	}
+
 	/*
 	프로모션 참여 현황 조회 API
 	@param promotionId 프로모션 ID
@@ -148,22 +180,44 @@ public class PromotionController {
 
 	/*
 	프로모션 참여 API
+	promotion.join.async=true 이면 Redis 응답을 기다리는 동안 Tomcat 스레드를 반환하는 논블로킹 방식으로 처리
 	@param promotionId 프로모션 ID
 	@param request 참여 요청
 	@param httpRequest HTTP 요청 (IP 추출용)
 	@return 참여 결과
 	 */
 	@PostMapping("/{promotionId}/join")
-	public ResponseEntity<CustomResponse<PromotionJoinResponse>> joinPromotion(
+	public CompletableFuture<ResponseEntity<CustomResponse<PromotionJoinResponse>>> joinPromotion(
 		@Parameter(description = "프로모션 ID", required = true)
 		@PathVariable UUID promotionId,
 		HttpServletRequest httpRequest,
 		@AuthenticationPrincipal UserPrincipal userPrincipal
 	) {
-		PromotionJoinResponse response = participationService.joinPromotion(
-			promotionId,
-			UUID.fromString(userPrincipal.userId()),
-			httpRequest);
+		UUID userId = UUID.fromString(userPrincipal.userId());
+
+		if (asyncJoin) {
+			return participationService.joinPromotionAsync(promotionId, userId, httpRequest)
+				.thenApply(response -> ResponseEntity.ok(CustomResponse.onSuccess(response)));
+		}
+
+		PromotionJoinResponse response = participationService.joinPromotion(promotionId, userId, httpRequest);
+		return CompletableFuture.completedFuture(ResponseEntity.ok(CustomResponse.onSuccess(response)));
+	}
+
+	/*
+	대기 순서 조회 API
+	참여 후 결과가 나올 때까지 현재 대기 순서와 예상 대기 시간을 확인 (참여 / 결과 API 반복 호출 대신 사용)
+	@param promotionId 프로모션 ID
+	@return 대기 순서
+	 */
+	@Operation(summary = "대기 순서 조회", description = "대기열에서의 현재 순서와 최근 처리 속도 기준 예상 대기 시간을 조회합니다.")
+	@GetMapping("/{promotionId}/position")
+	public ResponseEntity<CustomResponse<QueuePositionResponse>> getQueuePosition(
+		@Parameter(description = "프로모션 ID", required = true)
+		@PathVariable UUID promotionId,
+		@AuthenticationPrincipal UserPrincipal userPrincipal
+	) {
+		QueuePositionResponse response = participationService.getQueuePosition(promotionId, UUID.fromString(userPrincipal.userId()));
 		return ResponseEntity.ok(CustomResponse.onSuccess(response));
 	}
 }
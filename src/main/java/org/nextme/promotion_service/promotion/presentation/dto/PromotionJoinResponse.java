@@ -4,15 +4,16 @@ package org.nextme.promotion_service.promotion.presentation.dto;
 public record PromotionJoinResponse(
 	boolean success,	// 성공 여부
 	String message,		// 응답 메시지
-	Long queuePosition
+	Long queuePosition,	// 진입 직후 대기열 위치
+	Long ticket			// 참여 순번 (대기 순서 조회 기준)
 ) {
 	// 성공 응답 생성
-	public static PromotionJoinResponse success(String message, Long queuePosition) {
-		return new PromotionJoinResponse(true, message, queuePosition);
+	public static PromotionJoinResponse success(String message, Long queuePosition, Long ticket) {
+		return new PromotionJoinResponse(true, message, queuePosition, ticket);
 	}
 
 	// 실패 응답 생성
 	public static PromotionJoinResponse failure(String message) {
-		return new PromotionJoinResponse(false, message, null);
+		return new PromotionJoinResponse(false, message, null, null);
 	}
 }
@@ -0,0 +1,20 @@
+package org.nextme.promotion_service.promotion.presentation.dto;
+
+import java.util.List;
+
+import org.nextme.promotion_service.promotion.domain.Promotion;
+import org.nextme.promotion_service.promotion.infrastructure.persistence.PromotionCursor;
+
+// 프로모션 목록 페이지 응답 DTO ((생성 시각, ID) 커서 기반, 전체 개수 없음)
+public record PromotionPageResponse(
+	List<PromotionResponse> promotions,
+	String nextCursor,	// 다음 페이지 요청 시 전달할 커서 (다음 페이지가 없으면 null)
+	boolean hasNext
+) {
+	public static PromotionPageResponse of(List<Promotion> fetched, int size) {
+		boolean hasNext = fetched.size() > size;
+		List<Promotion> promotions = hasNext ? fetched.subList(0, size) : fetched;
+		String nextCursor = hasNext ? PromotionCursor.from(promotions.get(promotions.size() - 1)).encode() : null;
+		return new PromotionPageResponse(promotions.stream().map(PromotionResponse::from).toList(), nextCursor, hasNext);
+	}
+}
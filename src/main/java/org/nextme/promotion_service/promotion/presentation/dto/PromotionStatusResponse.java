@@ -1,7 +1,12 @@
 package org.nextme.promotion_service.promotion.presentation.dto;
 
+import java.util.UUID;
+
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueueCounters;
+
 // 프로모션 참여 현황 응답 DTO
 public record PromotionStatusResponse(
+	UUID promotionId,      // 프로모션 ID
 	Long queueSize,        // 현재 대기열 크기
 	Long participantCount, // 총 참여자 수 (joined set)
 	Long winnerCount,      // 현재 당첨자 수
@@ -9,16 +14,16 @@ public record PromotionStatusResponse(
 	Integer remainingStock // 남은 재고
 ) {
 	public static PromotionStatusResponse of(
-		Long queueSize,
-		Long participantCount,
-		Long winnerCount,
+		UUID promotionId,
+		QueueCounters counters,
 		Integer totalStock
 	) {
-		int remaining = Math.max(0, totalStock - (winnerCount != null ? winnerCount.intValue() : 0));
+		int remaining = (int) Math.max(0L, totalStock - counters.winnerCount());
 		return new PromotionStatusResponse(
-			queueSize,
-			participantCount,
-			winnerCount,
+			promotionId,
+			counters.queueSize(),
+			counters.participantCount(),
+			counters.winnerCount(),
 			totalStock,
 			remaining
 		);
@@ -0,0 +1,28 @@
+package org.nextme.promotion_service.promotion.presentation.dto;
+
+import java.util.UUID;
+
+import org.nextme.promotion_service.promotion.infrastructure.redis.QueuePosition;
+
+// 대기 순서 응답 DTO
+public record QueuePositionResponse(
+	UUID promotionId,
+	Long ticket,				// 참여 순번
+	Long position,				// 현재 대기 순서 (0이면 처리 중이거나 처리 완료)
+	Long estimatedWaitSeconds,	// 예상 대기 시간 (초, 알 수 없으면 null)
+	String message
+) {
+	public static QueuePositionResponse of(UUID promotionId, QueuePosition position) {
+		String message = position.position() == 0
+			? "참여 처리가 진행 중이거나 완료되었습니다. 참여 결과를 확인해주세요."
+			: String.format("현재 대기 순서는 %d번입니다.", position.position());
+
+		return new QueuePositionResponse(
+			promotionId,
+			position.ticket(),
+			position.position(),
+			position.estimatedWaitSeconds(),
+			message
+		);
+	}
+}
@@ -0,0 +1,8 @@
+-- 당첨 이벤트 등 Kafka 발행 대기 메시지 (참여 기록과 같은 트랜잭션으로 저장, 릴레이가 발행 후 삭제)
+CREATE TABLE IF NOT EXISTS p_promotion_outbox (
+	id          BIGSERIAL    PRIMARY KEY,
+	topic       VARCHAR(100) NOT NULL,
+	message_key VARCHAR(100),
+	payload     JSONB        NOT NULL,
+	created_at  TIMESTAMP    NOT NULL DEFAULT now()
+);
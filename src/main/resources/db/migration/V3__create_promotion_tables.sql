@@ -0,0 +1,123 @@
+-- 프로모션 / 참여 기록 테이블 (ddl-auto로 이미 생성된 환경에서도 실행 가능)
+-- 참여 기록은 프로모션 ID 기준 LIST 파티셔닝 (프로모션마다 파티션 1개, 조회는 해당 파티션 인덱스만 사용)
+-- 종료된 프로모션의 참여 기록은 drop_participation_partition()으로 파티션째 삭제
+
+-- 프로모션
+CREATE TABLE IF NOT EXISTS p_promotion (
+	id           UUID         PRIMARY KEY,
+	name         VARCHAR(255) NOT NULL,
+	start_time   TIMESTAMP(6) NOT NULL,
+	end_time     TIMESTAMP(6) NOT NULL,
+	total_stock  INTEGER      NOT NULL,
+	point_amount INTEGER      NOT NULL,
+	status       VARCHAR(255) NOT NULL,
+	created_at   TIMESTAMP(6),
+	updated_at   TIMESTAMP(6)
+);
+
+-- 상태별 프로모션 조회 (findByStatus)
+CREATE INDEX IF NOT EXISTS idx_promotion_status ON p_promotion (status);
+
+-- 기존 참여 기록 테이블(파티셔닝 전)은 이름을 바꿔 두고 새 테이블로 옮김
+DO $$
+BEGIN
+	IF EXISTS (
+		SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+		WHERE n.nspname = '${flyway:defaultSchema}' AND c.relname = 'p_promotion_participation' AND c.relkind = 'r'
+	) THEN
+		ALTER TABLE p_promotion_participation RENAME TO p_promotion_participation_legacy;
+		ALTER TABLE p_promotion_participation_legacy DROP CONSTRAINT IF EXISTS uk_participation_promotion_user;
+		ALTER INDEX IF EXISTS p_promotion_participation_pkey RENAME TO p_promotion_participation_legacy_pkey;
+	END IF;
+END $$;
+
+-- 참여 기록 (기본 키와 유니크 키는 파티션 키인 promotion_id를 포함해야 함)
+CREATE TABLE IF NOT EXISTS p_promotion_participation (
+	id              UUID         NOT NULL,
+	promotion_id    UUID         NOT NULL,
+	user_id         UUID         NOT NULL,
+	participated_at TIMESTAMP(6) NOT NULL,
+	queue_position  BIGINT,
+	status          VARCHAR(255) NOT NULL,
+	ip_address      VARCHAR(45),
+	user_agent      VARCHAR(500),
+	created_at      TIMESTAMP(6),
+	updated_at      TIMESTAMP(6),
+	CONSTRAINT p_promotion_participation_pkey PRIMARY KEY (promotion_id, id),
+	CONSTRAINT uk_participation_promotion_user UNIQUE (promotion_id, user_id),
+	CONSTRAINT fk_participation_promotion FOREIGN KEY (promotion_id) REFERENCES p_promotion (id)
+) PARTITION BY LIST (promotion_id);
+
+-- 당첨자 목록 조회 (findByPromotionAndStatusOrderByQueuePositionAsc)
+CREATE INDEX IF NOT EXISTS idx_participation_promotion_status_position
+	ON p_promotion_participation (promotion_id, status, queue_position);
+
+-- 파티션이 없는 프로모션의 참여 기록 (정상적으로는 비어 있어야 함)
+CREATE TABLE IF NOT EXISTS p_promotion_participation_default PARTITION OF p_promotion_participation DEFAULT;
+
+-- 프로모션 파티션 생성 (프로모션 생성 시 호출, 이미 있으면 무시)
+-- 생성 시 부모 테이블에 잠깐 배타 잠금이 걸리고 DEFAULT 파티션을 검사하므로 DEFAULT 파티션은 비어 있게 유지
+CREATE OR REPLACE FUNCTION ${flyway:defaultSchema}.create_participation_partition(p_promotion_id UUID)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+	partition_name TEXT := 'p_promotion_participation_' || replace(p_promotion_id::TEXT, '-', '');
+BEGIN
+	IF to_regclass(format('%I.%I', '${flyway:defaultSchema}', partition_name)) IS NULL THEN
+		EXECUTE format('CREATE TABLE %I.%I PARTITION OF %I.p_promotion_participation FOR VALUES IN (%L)',
+			'${flyway:defaultSchema}', partition_name, '${flyway:defaultSchema}', p_promotion_id);
+	END IF;
+	RETURN partition_name;
+END;
+$$;
+
+-- 프로모션 파티션 삭제 (종료된 프로모션의 참여 기록 정리, 행 단위 DELETE 없이 파티션째 삭제)
+CREATE OR REPLACE FUNCTION ${flyway:defaultSchema}.drop_participation_partition(p_promotion_id UUID)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+	partition_name TEXT := 'p_promotion_participation_' || replace(p_promotion_id::TEXT, '-', '');
+BEGIN
+	IF to_regclass(format('%I.%I', '${flyway:defaultSchema}', partition_name)) IS NOT NULL THEN
+		EXECUTE format('ALTER TABLE %I.p_promotion_participation DETACH PARTITION %I.%I',
+			'${flyway:defaultSchema}', '${flyway:defaultSchema}', partition_name);
+		EXECUTE format('DROP TABLE %I.%I', '${flyway:defaultSchema}', partition_name);
+	END IF;
+END;
+$$;
+
+-- 기존 프로모션 파티션 생성
+SELECT create_participation_partition(id) FROM p_promotion;
+
+-- 기존 참여 기록 이전 (BaseEntity 등 새 테이블에 없는 컬럼은 추가 후 이름이 같은 컬럼을 모두 복사)
+DO $$
+DECLARE
+	missing RECORD;
+	column_list TEXT;
+BEGIN
+	IF to_regclass('p_promotion_participation_legacy') IS NULL THEN
+		RETURN;
+	END IF;
+
+	FOR missing IN
+		SELECT a.attname, format_type(a.atttypid, a.atttypmod) AS column_type
+		FROM pg_attribute a
+		WHERE a.attrelid = 'p_promotion_participation_legacy'::regclass AND a.attnum > 0 AND NOT a.attisdropped
+			AND NOT EXISTS (
+				SELECT 1 FROM pg_attribute b
+				WHERE b.attrelid = 'p_promotion_participation'::regclass AND b.attname = a.attname AND NOT b.attisdropped
+			)
+	LOOP
+		EXECUTE format('ALTER TABLE p_promotion_participation ADD COLUMN %I %s', missing.attname, missing.column_type);
+	END LOOP;
+
+	SELECT string_agg(quote_ident(a.attname), ', ' ORDER BY a.attnum) INTO column_list
+	FROM pg_attribute a
+	WHERE a.attrelid = 'p_promotion_participation_legacy'::regclass AND a.attnum > 0 AND NOT a.attisdropped;
+
+	EXECUTE format('INSERT INTO p_promotion_participation (%s) SELECT %s FROM p_promotion_participation_legacy',
+		column_list, column_list);
+	DROP TABLE p_promotion_participation_legacy;
+END $$;
@@ -0,0 +1,7 @@
+-- 프로모션 목록 커서 조회 ((생성 시각, ID) 최신순, OFFSET / COUNT 없이 인덱스 범위 조회)
+
+-- 전체 목록 (findLatest, findLatestAfter)
+CREATE INDEX IF NOT EXISTS idx_promotion_created ON p_promotion (created_at DESC, id DESC);
+
+-- 상태별 목록 (findLatestByStatus, findLatestByStatusAfter)
+CREATE INDEX IF NOT EXISTS idx_promotion_status_created ON p_promotion (status, created_at DESC, id DESC);
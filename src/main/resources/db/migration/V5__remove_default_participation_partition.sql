@@ -0,0 +1,39 @@
+-- 참여 기록 DEFAULT 파티션 제거
+-- DEFAULT 파티션이 있으면 파티션을 만들 때마다 DEFAULT 전체를 검사하고, DEFAULT에 기록이 남은 프로모션은 파티션을 만들 수 없음
+-- 파티션은 프로모션 생성 시 만들고 시작 전에 다시 확인하므로 (없으면 시작하지 않음) 파티션 없이 참여 기록이 저장되지 않음
+
+-- DEFAULT 파티션을 떼어 내고, 남은 기록은 프로모션 파티션을 만든 뒤 옮김
+DO $$
+BEGIN
+	IF to_regclass('p_promotion_participation_default') IS NULL THEN
+		RETURN;
+	END IF;
+
+	ALTER TABLE p_promotion_participation DETACH PARTITION p_promotion_participation_default;
+	PERFORM create_participation_partition(orphaned.promotion_id)
+	FROM (SELECT DISTINCT promotion_id FROM p_promotion_participation_default) AS orphaned;
+	INSERT INTO p_promotion_participation SELECT * FROM p_promotion_participation_default;
+	DROP TABLE p_promotion_participation_default;
+END $$;
+
+-- 파티션이 없는 기존 프로모션의 파티션 생성
+SELECT create_participation_partition(id) FROM p_promotion;
+
+-- 프로모션 파티션 삭제 (보관 기간이 지난 종료 프로모션, 삭제했으면 true / 이미 없으면 false)
+DROP FUNCTION IF EXISTS ${flyway:defaultSchema}.drop_participation_partition(UUID);
+CREATE FUNCTION ${flyway:defaultSchema}.drop_participation_partition(p_promotion_id UUID)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+	partition_name TEXT := 'p_promotion_participation_' || replace(p_promotion_id::TEXT, '-', '');
+BEGIN
+	IF to_regclass(format('%I.%I', '${flyway:defaultSchema}', partition_name)) IS NULL THEN
+		RETURN FALSE;
+	END IF;
+	EXECUTE format('ALTER TABLE %I.p_promotion_participation DETACH PARTITION %I.%I',
+		'${flyway:defaultSchema}', '${flyway:defaultSchema}', partition_name);
+	EXECUTE format('DROP TABLE %I.%I', '${flyway:defaultSchema}', partition_name);
+	RETURN TRUE;
+END;
+$$;
@@ -0,0 +1,3 @@
+-- 아웃박스 행 선점 (릴레이가 선점 후 바로 커밋하고 트랜잭션 밖에서 발행, Kafka 확인을 기다리는 동안 DB 트랜잭션을 열어 두지 않음)
+-- 선점 시각이 지나면 (릴레이 Pod 중단 등) 다른 릴레이가 다시 선점
+ALTER TABLE p_promotion_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
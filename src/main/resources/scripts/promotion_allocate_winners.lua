@@ -0,0 +1,31 @@
+-- 당첨 순번 일괄 할당 (남은 재고 한도 내에서 연속 구간을 한 번의 INCRBY로 확보)
+-- KEYS[1] : 당첨자 카운트, KEYS[2] : 재고 소진 플래그, KEYS[3] : 처리 임대 Hash
+-- ARGV[1] : 요청 개수, ARGV[2] : 총 재고, ARGV[3] : 펜싱 토큰, ARGV[4] : 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+-- 반환값 : {첫 당첨 순번, 할당 개수, 재고 소진 플래그 최초 설정 여부(0/1), 임대 상실 여부(0/1)}
+
+-- 임대가 다른 소유자에게 넘어간 뒤의 할당 요청은 거절 (GC 정지 등으로 늦게 도착한 이전 소유자)
+if redis.call('HGET', KEYS[3], 'token') ~= ARGV[3] then
+	return {0, 0, 0, 1}
+end
+
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+local total = tonumber(ARGV[2])
+local remaining = total - current
+if remaining <= 0 then
+	local soldOut = redis.call('SET', KEYS[2], '1', 'NX', 'PXAT', ARGV[4]) and 1 or 0
+	return {current + 1, 0, soldOut, 0}
+end
+
+local granted = math.min(tonumber(ARGV[1]), remaining)
+local last = redis.call('INCRBY', KEYS[1], granted)
+if current == 0 then
+	redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+end
+
+-- 마지막 재고까지 할당되면 재고 소진 플래그 설정
+local soldOut = 0
+if last >= total then
+	soldOut = redis.call('SET', KEYS[2], '1', 'NX', 'PXAT', ARGV[4]) and 1 or 0
+end
+
+return {last - granted + 1, granted, soldOut, 0}
@@ -0,0 +1,13 @@
+-- 처리 완료 커서 갱신 (참여 순번 기준, 커서 이하 순번은 처리 완료)
+-- KEYS[1] : 처리 완료 커서
+-- ARGV[1] : 처리한 항목의 최대 참여 순번, ARGV[2] : 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+-- 반환값 : 갱신된 커서
+-- 커서보다 클 때만 올리므로 다시 전달된 항목을 처리하거나 커밋 순서가 바뀌어도 커서가 되돌아가거나 중복 증가하지 않음
+
+local maxTicket = tonumber(ARGV[1])
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+if maxTicket > current then
+	redis.call('SET', KEYS[1], maxTicket, 'PXAT', ARGV[2])
+	return maxTicket
+end
+return current
@@ -0,0 +1,55 @@
+-- 프로모션 참여 - 샤드 대기열 (재고 소진 확인 + 중복 체크 + 대기 인원 확인 + 순번 발급 + 대기열 등록을 샤드 슬롯 하나에서 처리)
+-- 사용자는 항상 같은 샤드에 참여하므로 중복 체크가 샤드 안에서 끝나고, 참여 한 번은 한 샤드에 스크립트 한 번
+-- KEYS[1] : 샤드 재고 소진 플래그, KEYS[2] : 샤드 참여자 Hash 버킷 (사용자 ID -> 참여 순번), KEYS[3] : 샤드 참여 순번
+-- KEYS[4] : 샤드 처리 완료 커서, KEYS[5] : 샤드 대기열
+-- ARGV[1] : 사용자 ID (16바이트), ARGV[2] : 샤드 대기열 최대 크기, ARGV[3] : 대기열 데이터, ARGV[4] : 샤드 번호, ARGV[5] : 샤드 수
+-- ARGV[6] : 워커 깨우기 채널, ARGV[7] : 프로모션 ID, ARGV[8] : 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+-- 반환값 : {결과 코드(0 : 참여, 1 : 중복, 2 : 대기열 초과, 3 : 재고 소진), 대기열 위치(전체 추정), 참여 순번}
+-- 참여 순번은 (샤드 순번 - 1) * 샤드 수 + 샤드 번호 + 1 로 샤드끼리 겹치지 않음
+-- 대기열에는 참여 순번(8바이트)과 참여 시각(Redis 서버 시각 us, 8바이트)을 앞에 붙여 등록 (워커가 참여 시각으로 샤드 병합)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return {3, 0, 0}
+end
+
+if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+	return {1, 0, 0}
+end
+
+local shard = tonumber(ARGV[4])
+local shards = tonumber(ARGV[5])
+
+-- 대기 인원 = 샤드 순번 - 처리 완료 커서의 샤드 순번
+local seq = tonumber(redis.call('GET', KEYS[3]) or '0')
+local drained = tonumber(redis.call('GET', KEYS[4]) or '0')
+local waiting = seq
+if drained > 0 then
+	waiting = seq - (math.floor((drained - 1 - shard) / shards) + 1)
+end
+if waiting >= tonumber(ARGV[2]) then
+	return {2, waiting * shards, 0}
+end
+
+seq = redis.call('INCR', KEYS[3])
+local ticket = (seq - 1) * shards + shard + 1
+redis.call('HSET', KEYS[2], ARGV[1], ticket)
+
+local now = redis.call('TIME')
+local joinedAt = tonumber(now[1]) * 1000000 + tonumber(now[2])
+local position = redis.call('RPUSH', KEYS[5], struct.pack('>I8>I8', ticket, joinedAt) .. ARGV[3])
+
+-- 새로 생긴 Key에만 만료 시각 설정
+if seq == 1 then
+	redis.call('PEXPIREAT', KEYS[3], ARGV[8])
+end
+if redis.call('HLEN', KEYS[2]) == 1 then
+	redis.call('PEXPIREAT', KEYS[2], ARGV[8])
+end
+
+-- 빈 샤드에 첫 항목이 들어오면 워커 깨우기
+if position == 1 then
+	redis.call('PEXPIREAT', KEYS[5], ARGV[8])
+	redis.call('PUBLISH', ARGV[6], ARGV[7])
+end
+
+return {0, (waiting + 1) * shards, ticket}
@@ -0,0 +1,41 @@
+-- 프로모션 참여 - Redis Streams 대기열 (중복 체크 + 대기열 크기 확인 + 순번 발급 + 대기열 등록)
+-- KEYS[1] : 참여자 Hash 버킷 (사용자 ID -> 참여 순번), KEYS[2] : 대기열 Stream, KEYS[3] : 참여 순번, KEYS[4] : 재고 소진 플래그
+-- ARGV[1] : 사용자 ID (16바이트), ARGV[2] : 대기열 최대 크기, ARGV[3] : 대기열 데이터, ARGV[4] : 워커 깨우기 채널, ARGV[5] : 프로모션 ID
+-- ARGV[6] : 프로모션 Key 만료 시각 (epoch ms, 프로모션 종료 + 보관 기간)
+-- 반환값 : {결과 코드(0 : 참여, 1 : 중복, 2 : 대기열 초과, 3 : 재고 소진), 대기열 위치, 참여 순번}
+-- 처리 완료된 항목은 XACK 후 XDEL 되므로 XLEN은 미처리 + 처리 중 항목 수
+-- 항목 데이터에는 참여 순번(8바이트 빅 엔디언)을 앞에 붙여 등록 (다시 전달되어도 처리 완료 커서가 중복 증가하지 않음)
+
+-- 재고 소진 알림을 받지 못한 Pod의 요청도 대기열에 넣지 않음
+if redis.call('EXISTS', KEYS[4]) == 1 then
+	return {3, 0, 0}
+end
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+	return {1, 0, 0}
+end
+
+local queueSize = redis.call('XLEN', KEYS[2])
+if queueSize >= tonumber(ARGV[2]) then
+	return {2, queueSize, 0}
+end
+
+local ticket = redis.call('INCR', KEYS[3])
+redis.call('HSET', KEYS[1], ARGV[1], ticket)
+redis.call('XADD', KEYS[2], '*', 'e', struct.pack('>I8', ticket) .. ARGV[3])
+
+-- 새로 생긴 Key에만 만료 시각 설정 (Stream은 비어도 삭제되지 않으므로 첫 순번에서 설정)
+if ticket == 1 then
+	redis.call('PEXPIREAT', KEYS[3], ARGV[6])
+	redis.call('PEXPIREAT', KEYS[2], ARGV[6])
+end
+if redis.call('HLEN', KEYS[1]) == 1 then
+	redis.call('PEXPIREAT', KEYS[1], ARGV[6])
+end
+
+-- 빈 대기열에 첫 항목이 들어오면 워커 깨우기
+if queueSize == 0 then
+	redis.call('PUBLISH', ARGV[4], ARGV[5])
+end
+
+return {0, queueSize + 1, ticket}
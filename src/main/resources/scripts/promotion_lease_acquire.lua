@@ -0,0 +1,20 @@
+-- 프로모션 처리 임대 획득 또는 갱신 (하트비트)
+-- KEYS[1] : 임대 Hash (owner, token), KEYS[2] : 펜싱 토큰 시퀀스
+-- ARGV[1] : 소유자 ID, ARGV[2] : 임대 시간 (ms)
+-- 반환값 : 펜싱 토큰, 다른 소유자가 보유 중이면 -1
+
+local owner = redis.call('HGET', KEYS[1], 'owner')
+if owner == ARGV[1] then
+	redis.call('PEXPIRE', KEYS[1], ARGV[2])
+	return tonumber(redis.call('HGET', KEYS[1], 'token'))
+end
+if owner then
+	return -1
+end
+
+-- 새 소유자마다 증가하는 토큰 발급 (이전 소유자의 늦은 쓰기 차단용)
+local token = redis.call('INCR', KEYS[2])
+redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'token', token)
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+
+return token
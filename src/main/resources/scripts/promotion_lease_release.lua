@@ -0,0 +1,10 @@
+-- 프로모션 처리 임대 반납 (본인 소유일 때만)
+-- KEYS[1] : 임대 Hash
+-- ARGV[1] : 소유자 ID
+-- 반환값 : 반납 여부 (0/1)
+
+if redis.call('HGET', KEYS[1], 'owner') == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,17 @@
+-- 프로모션 목록 버전 증가 (목록 조회 ETag / Last-Modified 용)
+-- KEYS[1] : 목록 버전 Hash (목록 종류 -> 버전)
+-- ARGV[1] : 현재 시각 (epoch ms), ARGV[2..] : 증가할 목록 종류 (ALL, 프로모션 상태)
+-- 버전은 마지막 변경 시각(ms)이며, 같은 ms에 여러 번 바뀌거나 Pod 간 시계가 어긋나도 항상 증가
+-- Redis 데이터가 초기화되어도 새 버전이 이전 버전보다 커서 예전 ETag와 겹치지 않음
+
+local now = tonumber(ARGV[1])
+for i = 2, #ARGV do
+	local current = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0')
+	local version = now
+	if version <= current then
+		version = current + 1
+	end
+	redis.call('HSET', KEYS[1], ARGV[i], version)
+end
+
+return #ARGV - 1
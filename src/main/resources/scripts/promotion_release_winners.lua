@@ -0,0 +1,20 @@
+-- 당첨 순번 반환 (트랜잭션이 롤백된 배치가 할당받은 구간을 되돌림)
+-- KEYS[1] : 당첨자 카운트, KEYS[2] : 재고 소진 플래그, KEYS[3] : 처리 임대 Hash
+-- ARGV[1] : 반환할 구간의 마지막 당첨 순번, ARGV[2] : 반환 개수, ARGV[3] : 펜싱 토큰, ARGV[4] : 이 배치가 재고 소진 플래그를 설정했는지 여부(0/1)
+-- 반환값 : 반환했으면 1, 이후 다른 할당이 있었거나 임대가 넘어가 반환하지 못했으면 0
+
+-- 임대가 다른 소유자에게 넘어갔으면 새 소유자의 할당과 섞일 수 있으므로 반환하지 않음
+if redis.call('HGET', KEYS[3], 'token') ~= ARGV[3] then
+	return 0
+end
+
+-- 이 구간 뒤로 할당된 순번이 없을 때만 반환 (구간이 끝에 있어야 카운트를 되돌려도 순번이 겹치지 않음)
+if tonumber(redis.call('GET', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then
+	return 0
+end
+
+redis.call('DECRBY', KEYS[1], ARGV[2])
+if ARGV[4] == '1' then
+	redis.call('DEL', KEYS[2])
+end
+return 1
@@ -0,0 +1,34 @@
+-- 샤드 대기열 처리 완료 (처리한 참여 순번의 항목만 제거, 항목 앞 8바이트가 참여 순번)
+-- 워커는 LRANGE로 앞쪽을 읽기만 하므로, 커밋 이후 처리한 항목만 제거해 처리 중 장애가 나도 항목이 유실되지 않음
+-- KEYS[1] : 샤드 대기열
+-- ARGV[1] : 처리한 항목이 있는 앞쪽 범위 (읽은 위치 + 1), ARGV[2...] : 처리한 참여 순번
+-- 반환값 : 제거한 항목 수
+-- 처리한 항목이 맨 앞에서 연속되면 LTRIM 한 번으로 제거하고, 나머지만 LREM (한 프로모션은 임대로 한 워커만 처리하므로 그 사이 앞쪽은 바뀌지 않음)
+
+local targets = {}
+for i = 2, #ARGV do
+	targets[tonumber(ARGV[i])] = true
+end
+
+local window = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+local prefix = 0
+local rest = {}
+for i, value in ipairs(window) do
+	if #value >= 8 and targets[struct.unpack('>I8', value)] then
+		if prefix == i - 1 then
+			prefix = i
+		else
+			rest[#rest + 1] = value
+		end
+	end
+end
+
+if prefix > 0 then
+	redis.call('LTRIM', KEYS[1], prefix, -1)
+end
+
+local removed = prefix
+for _, value in ipairs(rest) do
+	removed = removed + redis.call('LREM', KEYS[1], 1, value)
+end
+return removed
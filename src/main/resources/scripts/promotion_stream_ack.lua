@@ -0,0 +1,14 @@
+-- Redis Streams 대기열 처리 완료 (XACK + XDEL)
+-- KEYS[1] : 대기열 Stream
+-- ARGV[1] : 컨슈머 그룹, ARGV[2...] : 항목 ID
+-- 반환값 : 처리 완료된 항목 수
+
+local ids = {}
+for i = 2, #ARGV do
+	ids[#ids + 1] = ARGV[i]
+end
+
+local acked = redis.call('XACK', KEYS[1], ARGV[1], unpack(ids))
+redis.call('XDEL', KEYS[1], unpack(ids))
+
+return acked
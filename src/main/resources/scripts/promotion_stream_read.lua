@@ -0,0 +1,28 @@
+-- Redis Streams 대기열 읽기 (컨슈머 그룹)
+-- 1. 컨슈머 그룹이 없으면 생성
+-- 2. 자신의 처리 중 항목을 먼저 다시 읽기 (롤백 또는 ack 실패로 남은 항목, XREADGROUP ... 0)
+-- 3. 다른 컨슈머가 남긴 처리 중 항목 회수 (XAUTOCLAIM)
+-- 4. 처리 중 항목이 없으면 새 항목 읽기 (XREADGROUP ... >)
+-- 처리 중 항목은 새 항목보다 앞선 참여 순번이므로 먼저 처리해야 선착순이 유지됨
+-- KEYS[1] : 대기열 Stream
+-- ARGV[1] : 컨슈머 그룹, ARGV[2] : 컨슈머 이름, ARGV[3] : 최대 개수, ARGV[4] : 회수 기준 유휴 시간(ms)
+-- 반환값 : {{항목 ID, {필드, 값, ...}}, ...}
+
+redis.pcall('XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+
+local pending = redis.call('XREADGROUP', 'GROUP', ARGV[1], ARGV[2], 'COUNT', ARGV[3], 'STREAMS', KEYS[1], '0')
+if pending and #pending[1][2] > 0 then
+	return pending[1][2]
+end
+
+local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[4], '0-0', 'COUNT', ARGV[3])
+if #claimed[2] > 0 then
+	return claimed[2]
+end
+
+local read = redis.call('XREADGROUP', 'GROUP', ARGV[1], ARGV[2], 'COUNT', ARGV[3], 'STREAMS', KEYS[1], '>')
+if not read then
+	return {}
+end
+
+return read[1][2]
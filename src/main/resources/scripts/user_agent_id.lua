@@ -0,0 +1,20 @@
+-- User-Agent 사전 ID 조회 또는 발급 (사전 크기 제한)
+-- KEYS[1] : User-Agent -> ID Hash, KEYS[2] : ID -> User-Agent Hash, KEYS[3] : ID 시퀀스
+-- ARGV[1] : User-Agent, ARGV[2] : 사전 최대 크기
+-- 반환값 : User-Agent ID, 사전이 가득 차 새 ID를 발급할 수 없으면 0 (UNKNOWN)
+-- User-Agent는 클라이언트가 임의로 보낼 수 있으므로 사전이 끝없이 커지지 않도록 제한
+
+local id = redis.call('HGET', KEYS[1], ARGV[1])
+if id then
+	return tonumber(id)
+end
+
+if redis.call('HLEN', KEYS[1]) >= tonumber(ARGV[2]) then
+	return 0
+end
+
+id = redis.call('INCR', KEYS[3])
+redis.call('HSET', KEYS[1], ARGV[1], id)
+redis.call('HSET', KEYS[2], id, ARGV[1])
+
+return id
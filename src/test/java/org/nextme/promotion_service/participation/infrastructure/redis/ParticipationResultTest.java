@@ -0,0 +1,56 @@
+package org.nextme.promotion_service.participation.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.nextme.promotion_service.participation.domain.ParticipationStatus;
+
+class ParticipationResultTest {
+
+	private static final LocalDateTime PARTICIPATED_AT = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_000_000);
+
+	@Test
+	void 당첨_결과를_복원한다() {
+		ParticipationResult result = new ParticipationResult(ParticipationStatus.WON, 1_234L, PARTICIPATED_AT);
+
+		byte[] encoded = result.encode();
+
+		assertThat(encoded).hasSizeLessThanOrEqualTo(10);
+		assertThat(ParticipationResult.decode(encoded)).isEqualTo(result);
+	}
+
+	@Test
+	void 탈락_결과는_당첨_순번_없이_복원한다() {
+		ParticipationResult result = new ParticipationResult(ParticipationStatus.LOST, null, PARTICIPATED_AT);
+
+		assertThat(ParticipationResult.decode(result.encode())).isEqualTo(result);
+	}
+
+	@Test
+	void 잘린_데이터는_거절한다() {
+		byte[] encoded = new ParticipationResult(ParticipationStatus.WON, 1_234L, PARTICIPATED_AT).encode();
+		byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+		assertThatThrownBy(() -> ParticipationResult.decode(truncated))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ParticipationResult.decode(new byte[0]))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void 알_수_없는_상태나_남은_데이터는_거절한다() {
+		byte[] encoded = new ParticipationResult(ParticipationStatus.LOST, null, PARTICIPATED_AT).encode();
+		byte[] unknownStatus = encoded.clone();
+		unknownStatus[0] = 7;
+		byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+
+		assertThatThrownBy(() -> ParticipationResult.decode(unknownStatus))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ParticipationResult.decode(trailing))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
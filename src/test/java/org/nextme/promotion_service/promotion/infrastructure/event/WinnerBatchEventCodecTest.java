@@ -0,0 +1,112 @@
+package org.nextme.promotion_service.promotion.infrastructure.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.nextme.promotion_service.promotion.domain.event.PromotionWinnerBatchEvent;
+
+class WinnerBatchEventCodecTest {
+
+	private static final UUID PROMOTION_ID = UUID.fromString("7f1c2a4e-0b3d-4c5e-8f6a-1b2c3d4e5f60");
+
+	@Test
+	void 당첨자가_없는_이벤트를_복원한다() {
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "선착순 이벤트", 1000, List.of());
+
+		PromotionWinnerBatchEvent decoded = WinnerBatchEventCodec.decode(WinnerBatchEventCodec.encode(event));
+
+		assertThat(decoded).isEqualTo(event);
+	}
+
+	@Test
+	void ASCII가_아닌_이름을_복원한다() {
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "신규 가입 🎉 포인트", 500,
+			List.of(new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 1L, LocalDateTime.of(2026, 10, 18, 12, 0))));
+
+		PromotionWinnerBatchEvent decoded = WinnerBatchEventCodec.decode(WinnerBatchEventCodec.encode(event));
+
+		assertThat(decoded.promotionName()).isEqualTo("신규 가입 🎉 포인트");
+		assertThat(decoded).isEqualTo(event);
+	}
+
+	@Test
+	void 첫_당첨자보다_이른_당첨_시각을_복원한다() {
+		LocalDateTime base = LocalDateTime.of(2026, 10, 18, 12, 0, 0, 500_000_000);
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "이벤트", 100, List.of(
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 10L, base),
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 11L, base.minusNanos(3_000_000)),
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 15L, base.plusSeconds(2))));
+
+		PromotionWinnerBatchEvent decoded = WinnerBatchEventCodec.decode(WinnerBatchEventCodec.encode(event));
+
+		assertThat(decoded).isEqualTo(event);
+	}
+
+	@Test
+	void 당첨_순번_순이_아닌_당첨자를_복원한다() {
+		LocalDateTime wonAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "이벤트", 100, List.of(
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 20L, wonAt),
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 3L, wonAt),
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 21L, wonAt)));
+
+		PromotionWinnerBatchEvent decoded = WinnerBatchEventCodec.decode(WinnerBatchEventCodec.encode(event));
+
+		assertThat(decoded).isEqualTo(event);
+	}
+
+	@Test
+	void 발행한_서버의_시간대로_당첨_시각을_복원한다() {
+		LocalDateTime wonAt = LocalDateTime.of(2026, 10, 18, 23, 30, 0, 250_000_000);
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "이벤트", 100, List.of(
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 1L, wonAt),
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 2L, wonAt.plusSeconds(1))));
+
+		// 받는 쪽 기본 시간대와 관계없이 헤더의 시간대로 복원
+		for (String zone : List.of("Asia/Seoul", "America/New_York", "UTC")) {
+			byte[] encoded = WinnerBatchEventCodec.encode(event, ZoneId.of(zone));
+
+			assertThat(WinnerBatchEventCodec.decode(encoded)).isEqualTo(event);
+		}
+	}
+
+	@Test
+	void 당첨_시각은_UTC_epoch_ms로_보낸다() {
+		LocalDateTime wonAt = LocalDateTime.of(2026, 10, 18, 9, 0);
+		PromotionWinnerBatchEvent event = new PromotionWinnerBatchEvent(PROMOTION_ID, "", 0, List.of(
+			new PromotionWinnerBatchEvent.Winner(UUID.randomUUID(), 1L, wonAt)));
+
+		byte[] encoded = WinnerBatchEventCodec.encode(event, ZoneId.of("Asia/Seoul"));
+
+		// 버전 1B + 프로모션 ID 16B + 이름 길이 1B + 포인트 4B + 시간대 길이 1B + "Asia/Seoul" + 당첨자 수 1B + 첫 당첨 순번 8B
+		int baseMillisOffset = 1 + 16 + 1 + 4 + 1 + "Asia/Seoul".length() + 1 + 8;
+		assertThat(ByteBuffer.wrap(encoded, baseMillisOffset, 8).getLong())
+			.isEqualTo(wonAt.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli());
+	}
+
+	@Test
+	void 남은_길이보다_큰_당첨자_수는_거부한다() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(1);
+		out.writeBytes(ByteBuffer.allocate(16)
+			.putLong(PROMOTION_ID.getMostSignificantBits())
+			.putLong(PROMOTION_ID.getLeastSignificantBits())
+			.array());
+		out.write(0);
+		out.writeBytes(ByteBuffer.allocate(4).putInt(100).array());
+		// 당첨자 수 Integer.MAX_VALUE (varint)
+		out.writeBytes(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+		out.writeBytes(new byte[16 + 18]);
+
+		assertThatThrownBy(() -> WinnerBatchEventCodec.decode(out.toByteArray()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
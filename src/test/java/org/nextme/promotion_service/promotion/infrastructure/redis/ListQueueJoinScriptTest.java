@@ -0,0 +1,118 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ListQueueJoinScriptTest extends RedisScriptTestSupport {
+
+	private PromotionQueueService queueService;
+
+	@BeforeEach
+	void setUp() {
+		queueService = new PromotionQueueService(redisTemplate, queueRedisTemplate,
+			new ListQueueBackend(queueRedisTemplate, reactiveQueueRedisTemplate));
+		ReflectionTestUtils.setField(queueService, "retentionDays", 7L);
+	}
+
+	@Test
+	void 참여하면_순번을_발급하고_대기열에_넣는다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		QueueEntry first = entry(UUID.randomUUID());
+		QueueEntry second = entry(UUID.randomUUID());
+
+		QueueJoinResult firstResult = queueService.join(promotion, first);
+		QueueJoinResult secondResult = queueService.join(promotion, second);
+
+		assertThat(firstResult).isEqualTo(new QueueJoinResult(QueueJoinResult.Status.JOINED, 1L, 1L));
+		assertThat(secondResult).isEqualTo(new QueueJoinResult(QueueJoinResult.Status.JOINED, 2L, 2L));
+
+		List<QueueMessage> messages = queueService.dequeue(promotion.id(), 10);
+		assertThat(messages).extracting(QueueMessage::entry).containsExactly(first, second);
+		assertThat(messages).extracting(QueueMessage::ticket).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void 같은_사용자의_두_번째_참여는_중복으로_거절한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		UUID userId = UUID.randomUUID();
+		queueService.join(promotion, entry(userId));
+
+		QueueJoinResult result = queueService.join(promotion, entry(userId));
+
+		assertThat(result.status()).isEqualTo(QueueJoinResult.Status.DUPLICATE);
+		assertThat(queueService.getQueueSize(promotion.id())).isEqualTo(1L);
+	}
+
+	@Test
+	void 대기열이_가득_차면_순번을_발급하지_않는다() {
+		// 대기열 최대 크기 = 재고 1 * 100
+		PromotionSnapshot promotion = activePromotion(1);
+		for (int i = 0; i < 100; i++) {
+			assertThat(queueService.join(promotion, entry(UUID.randomUUID())).isJoined()).isTrue();
+		}
+
+		UUID lateUser = UUID.randomUUID();
+		QueueJoinResult result = queueService.join(promotion, entry(lateUser));
+
+		assertThat(result.status()).isEqualTo(QueueJoinResult.Status.QUEUE_FULL);
+		assertThat(result.position()).isEqualTo(100L);
+		assertThat(queueService.getQueuePosition(promotion, lateUser)).isEmpty();
+		// 거절된 사용자는 참여자로 기록되지 않으므로 자리가 나면 다시 참여 가능
+		queueService.dequeue(promotion.id(), 1);
+		assertThat(queueService.join(promotion, entry(lateUser)).ticket()).isEqualTo(101L);
+	}
+
+	@Test
+	void 재고_소진_플래그가_있으면_참여를_거절한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		stringRedisTemplate.opsForValue().set(RedisKeyGenerator.soldOutKey(promotion.id()), "1");
+		UUID userId = UUID.randomUUID();
+
+		QueueJoinResult result = queueService.join(promotion, entry(userId));
+
+		assertThat(result.status()).isEqualTo(QueueJoinResult.Status.SOLD_OUT);
+		assertThat(queueService.getQueuePosition(promotion, userId)).isEmpty();
+		assertThat(queueService.getQueueSize(promotion.id())).isZero();
+	}
+
+	@Test
+	void 처리_완료_커서만큼_대기_순서가_줄어든다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		UUID userId = UUID.randomUUID();
+		queueService.join(promotion, entry(UUID.randomUUID()));
+		queueService.join(promotion, entry(UUID.randomUUID()));
+		queueService.join(promotion, entry(userId));
+
+		assertThat(queueService.getQueuePosition(promotion, userId)).get()
+			.extracting(QueuePosition::ticket, QueuePosition::position)
+			.containsExactly(3L, 3L);
+
+		queueService.markDrained(promotion, queueService.dequeue(promotion.id(), 2));
+
+		assertThat(queueService.getQueuePosition(promotion, userId)).get()
+			.extracting(QueuePosition::position)
+			.isEqualTo(1L);
+	}
+
+	@Test
+	void 참여_Key에_프로모션_만료_시각을_설정한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		UUID userId = UUID.randomUUID();
+
+		queueService.join(promotion, entry(userId));
+
+		assertThat(stringRedisTemplate.getExpire(RedisKeyGenerator.queueKey(promotion.id()))).isPositive();
+		assertThat(stringRedisTemplate.getExpire(RedisKeyGenerator.sequenceKey(promotion.id()))).isPositive();
+		Set<String> membersKeys = stringRedisTemplate.keys("promotion:{" + promotion.id() + "}:members:*");
+		assertThat(membersKeys).hasSize(1);
+		assertThat(stringRedisTemplate.getExpire(membersKeys.iterator().next())).isPositive();
+	}
+}
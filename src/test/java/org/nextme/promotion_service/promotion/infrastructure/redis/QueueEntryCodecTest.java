@@ -0,0 +1,87 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class QueueEntryCodecTest {
+
+	private static final UUID USER_ID = UUID.fromString("3d6f0a2b-91c4-4e7a-b5d8-0c1e2f3a4b5c");
+
+	private static QueueEntry entry(String ipAddress) {
+		return new QueueEntry(USER_ID, ipAddress, 42, 1_760_000_000_000L);
+	}
+
+	private static QueueEntry roundTrip(String ipAddress) {
+		return QueueEntryCodec.decode(QueueEntryCodec.encode(entry(ipAddress)));
+	}
+
+	@Test
+	void IPv4_주소를_4바이트로_저장하고_복원한다() {
+		byte[] encoded = QueueEntryCodec.encode(entry("203.0.113.7"));
+
+		assertThat(encoded).hasSize(34);
+		assertThat(QueueEntryCodec.decode(encoded)).isEqualTo(entry("203.0.113.7"));
+	}
+
+	@Test
+	void IPv6_주소를_16바이트로_저장하고_복원한다() {
+		byte[] encoded = QueueEntryCodec.encode(entry("2001:db8::1"));
+
+		assertThat(encoded).hasSize(46);
+		assertThat(QueueEntryCodec.decode(encoded).ipAddress()).isEqualTo("2001:db8:0:0:0:0:0:1");
+	}
+
+	@Test
+	void IPv4_표기로_끝나는_IPv6_주소를_복원한다() {
+		assertThat(roundTrip("64:ff9b::192.0.2.33").ipAddress()).isEqualTo("64:ff9b:0:0:0:0:c000:221");
+		assertThat(roundTrip("::").ipAddress()).isEqualTo("0:0:0:0:0:0:0:0");
+	}
+
+	@Test
+	void IP_리터럴이_아닌_값은_DNS_조회_없이_문자열로_보관한다() {
+		assertThat(roundTrip("gg:1").ipAddress()).isEqualTo("gg:1");
+		assertThat(roundTrip("1::2::3").ipAddress()).isEqualTo("1::2::3");
+		assertThat(roundTrip("203.0.113.256").ipAddress()).isEqualTo("203.0.113.256");
+		assertThat(roundTrip("localhost").ipAddress()).isEqualTo("localhost");
+		assertThat(roundTrip("abcd").ipAddress()).isEqualTo("abcd");
+	}
+
+	@Test
+	void 긴_문자열_IP는_45자까지만_보관한다() {
+		String longValue = "x".repeat(100);
+
+		assertThat(roundTrip(longValue).ipAddress()).isEqualTo("x".repeat(45));
+	}
+
+	@Test
+	void IP가_없으면_null로_복원한다() {
+		assertThat(roundTrip(null)).isEqualTo(entry(null));
+		assertThat(roundTrip("").ipAddress()).isNull();
+	}
+
+	@Test
+	void 참여_순번을_붙인_항목을_복원한다() {
+		byte[] encoded = QueueEntryCodec.encodeTicketed(1234L, entry("198.51.100.1"));
+
+		assertThat(QueueEntryCodec.readTicket(encoded)).isEqualTo(1234L);
+		assertThat(QueueEntryCodec.decodeTicketed(encoded)).isEqualTo(entry("198.51.100.1"));
+	}
+
+	@Test
+	void 형식이_잘못된_항목은_거부한다() {
+		byte[] encoded = QueueEntryCodec.encode(entry("198.51.100.1"));
+		byte[] unknownVersion = encoded.clone();
+		unknownVersion[0] = 9;
+		byte[] wrongIpLength = encoded.clone();
+		wrongIpLength[17] = 5;
+
+		assertThatThrownBy(() -> QueueEntryCodec.decode(unknownVersion)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> QueueEntryCodec.decode(wrongIpLength)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> QueueEntryCodec.decode(new byte[3])).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> QueueEntryCodec.readTicket(new byte[3])).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,78 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.nextme.promotion_service.global.config.RedisConfig;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.nextme.promotion_service.promotion.domain.PromotionStatus;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/*
+Lua 스크립트 테스트 공통 설정 (실제 Redis 컨테이너에서 스크립트 실행)
+운영과 같은 RedisConfig로 템플릿을 만들고, 테스트마다 데이터를 비움
+Docker가 없는 환경에서는 테스트를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class RedisScriptTestSupport {
+
+	@Container
+	private static final GenericContainer<?> REDIS =
+		new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	protected static RedisTemplate<String, Object> redisTemplate;
+	protected static RedisTemplate<String, byte[]> queueRedisTemplate;
+	protected static ReactiveRedisTemplate<String, byte[]> reactiveQueueRedisTemplate;
+	protected static StringRedisTemplate stringRedisTemplate;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		RedisConfig config = new RedisConfig();
+		redisTemplate = config.redisTemplate(connectionFactory);
+		queueRedisTemplate = config.queueRedisTemplate(connectionFactory);
+		reactiveQueueRedisTemplate = config.reactiveQueueRedisTemplate(connectionFactory);
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void flush() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushAll();
+		}
+	}
+
+	// 진행 중인 프로모션 스냅샷
+	protected static PromotionSnapshot activePromotion(int totalStock) {
+		LocalDateTime now = LocalDateTime.now();
+		return new PromotionSnapshot(UUID.randomUUID(), "선착순 이벤트", now.minusMinutes(1), now.plusHours(1),
+			totalStock, 1000, PromotionStatus.ACTIVE);
+	}
+
+	protected static QueueEntry entry(UUID userId) {
+		return new QueueEntry(userId, "203.0.113.7", 1, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,145 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ShardedQueueJoinScriptTest extends RedisScriptTestSupport {
+
+	private static final int SHARDS = 4;
+
+	private ShardedListQueueBackend backend;
+	private PromotionQueueService queueService;
+
+	@BeforeEach
+	void setUp() {
+		backend = new ShardedListQueueBackend(queueRedisTemplate, reactiveQueueRedisTemplate);
+		ReflectionTestUtils.setField(backend, "shardCount", SHARDS);
+		queueService = new PromotionQueueService(redisTemplate, queueRedisTemplate, backend);
+		ReflectionTestUtils.setField(queueService, "retentionDays", 7L);
+	}
+
+	private static int shardOf(UUID userId) {
+		return Math.floorMod(userId.hashCode(), SHARDS);
+	}
+
+	// 지정한 샤드에 들어가는 사용자 ID
+	private static UUID userInShard(int shard) {
+		UUID userId;
+		do {
+			userId = UUID.randomUUID();
+		} while (shardOf(userId) != shard);
+		return userId;
+	}
+
+	@Test
+	void 샤드끼리_겹치지_않는_참여_순번을_발급한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		Set<Long> tickets = new HashSet<>();
+
+		for (int i = 0; i < 40; i++) {
+			UUID userId = UUID.randomUUID();
+			QueueJoinResult result = queueService.join(promotion, entry(userId));
+
+			assertThat(result.isJoined()).isTrue();
+			// 참여 순번 = (샤드 순번 - 1) * 샤드 수 + 샤드 번호 + 1
+			assertThat((result.ticket() - 1) % SHARDS).isEqualTo(shardOf(userId));
+			tickets.add(result.ticket());
+		}
+
+		assertThat(tickets).hasSize(40);
+		assertThat(queueService.getQueueSize(promotion.id())).isEqualTo(40L);
+	}
+
+	@Test
+	void 같은_사용자의_두_번째_참여는_중복으로_거절한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		UUID userId = UUID.randomUUID();
+		queueService.join(promotion, entry(userId));
+
+		QueueJoinResult result = queueService.join(promotion, entry(userId));
+
+		assertThat(result.status()).isEqualTo(QueueJoinResult.Status.DUPLICATE);
+		assertThat(queueService.getQueueSize(promotion.id())).isEqualTo(1L);
+	}
+
+	@Test
+	void 여러_샤드의_항목을_참여_순서대로_꺼내고_처리한_항목만_제거한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+		List<UUID> joined = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			UUID userId = userInShard(i % SHARDS);
+			queueService.join(promotion, entry(userId));
+			joined.add(userId);
+		}
+
+		List<QueueMessage> messages = queueService.dequeue(promotion.id(), 12);
+
+		assertThat(messages).extracting(message -> message.entry().userId()).containsExactlyElementsOf(joined);
+		// 읽기만 하므로 처리 완료 전까지 대기열에 남음
+		assertThat(queueService.getQueueSize(promotion.id())).isEqualTo(12L);
+
+		queueService.acknowledge(promotion.id(), messages.subList(0, 5).stream().map(QueueMessage::id).toList());
+
+		assertThat(queueService.getQueueSize(promotion.id())).isEqualTo(7L);
+		assertThat(queueService.dequeue(promotion.id(), 12))
+			.extracting(message -> message.entry().userId())
+			.containsExactlyElementsOf(joined.subList(5, 12));
+	}
+
+	@Test
+	void 샤드마다_나눈_대기열_최대_크기를_넘으면_거절한다() {
+		// 대기열 최대 크기 = 재고 1 * 100, 샤드당 25
+		PromotionSnapshot promotion = activePromotion(1);
+		for (int i = 0; i < 25; i++) {
+			assertThat(queueService.join(promotion, entry(userInShard(0))).isJoined()).isTrue();
+		}
+
+		QueueJoinResult full = queueService.join(promotion, entry(userInShard(0)));
+		QueueJoinResult otherShard = queueService.join(promotion, entry(userInShard(1)));
+
+		assertThat(full.status()).isEqualTo(QueueJoinResult.Status.QUEUE_FULL);
+		assertThat(otherShard.isJoined()).isTrue();
+	}
+
+	@Test
+	void 처리_완료_커서가_오르면_같은_샤드에_다시_자리가_난다() {
+		PromotionSnapshot promotion = activePromotion(1);
+		for (int i = 0; i < 25; i++) {
+			queueService.join(promotion, entry(userInShard(0)));
+		}
+		List<QueueMessage> processed = queueService.dequeue(promotion.id(), 3);
+		queueService.acknowledge(promotion.id(), processed.stream().map(QueueMessage::id).toList());
+		queueService.markDrained(promotion, processed);
+
+		UUID userId = userInShard(0);
+		QueueJoinResult result = queueService.join(promotion, entry(userId));
+
+		assertThat(result.isJoined()).isTrue();
+		assertThat(queueService.getQueuePosition(promotion, userId)).get()
+			.extracting(QueuePosition::position)
+			.isEqualTo(result.ticket() - processed.get(2).ticket());
+	}
+
+	@Test
+	void 재고_소진_표시_후에는_모든_샤드에서_참여를_거절한다() {
+		PromotionSnapshot promotion = activePromotion(10);
+
+		queueService.markSoldOut(promotion);
+
+		for (int shard = 0; shard < SHARDS; shard++) {
+			assertThat(queueService.join(promotion, entry(userInShard(shard))).status())
+				.isEqualTo(QueueJoinResult.Status.SOLD_OUT);
+		}
+		assertThat(queueService.getQueueSize(promotion.id())).isZero();
+	}
+}
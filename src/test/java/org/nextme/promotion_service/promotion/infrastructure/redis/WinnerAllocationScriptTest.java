@@ -0,0 +1,96 @@
+package org.nextme.promotion_service.promotion.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.promotion_service.promotion.domain.PromotionSnapshot;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class WinnerAllocationScriptTest extends RedisScriptTestSupport {
+
+	private PromotionQueueService queueService;
+
+	@BeforeEach
+	void setUp() {
+		queueService = new PromotionQueueService(redisTemplate, queueRedisTemplate,
+			new ListQueueBackend(queueRedisTemplate, reactiveQueueRedisTemplate));
+		ReflectionTestUtils.setField(queueService, "retentionDays", 7L);
+	}
+
+	private static PromotionLeaseManager leaseManager(String ownerId) {
+		PromotionLeaseManager leaseManager = new PromotionLeaseManager(stringRedisTemplate);
+		ReflectionTestUtils.setField(leaseManager, "ownerId", ownerId);
+		ReflectionTestUtils.setField(leaseManager, "leaseMillis", 10_000L);
+		return leaseManager;
+	}
+
+	@Test
+	void 임대는_한_소유자만_얻고_소유자가_바뀔_때마다_펜싱_토큰이_증가한다() {
+		UUID promotionId = UUID.randomUUID();
+		PromotionLeaseManager first = leaseManager("pod-a");
+		PromotionLeaseManager second = leaseManager("pod-b");
+
+		OptionalLong firstToken = first.acquire(promotionId);
+
+		assertThat(firstToken).hasValue(1L);
+		assertThat(second.acquire(promotionId)).isEmpty();
+		assertThat(first.renew(promotionId, 1L)).isTrue();
+
+		first.release(promotionId);
+
+		assertThat(second.acquire(promotionId)).hasValue(2L);
+		assertThat(first.renew(promotionId, 1L)).isFalse();
+	}
+
+	@Test
+	void 남은_재고_한도까지만_당첨_순번을_할당하고_마지막_할당에서_재고_소진을_표시한다() {
+		PromotionSnapshot promotion = activePromotion(5);
+		long token = leaseManager("pod-a").acquire(promotion.id()).getAsLong();
+
+		WinnerSlots first = queueService.allocateWinners(promotion, 3, token);
+		WinnerSlots second = queueService.allocateWinners(promotion, 3, token);
+		WinnerSlots third = queueService.allocateWinners(promotion, 1, token);
+
+		assertThat(first).isEqualTo(new WinnerSlots(1L, 3, false, false));
+		assertThat(second).isEqualTo(new WinnerSlots(4L, 2, true, false));
+		// 재고 소진 플래그는 처음 설정한 배치에만 알림
+		assertThat(third).isEqualTo(new WinnerSlots(6L, 0, false, false));
+		assertThat(stringRedisTemplate.hasKey(RedisKeyGenerator.soldOutKey(promotion.id()))).isTrue();
+	}
+
+	@Test
+	void 임대를_잃은_이전_소유자의_할당은_거절한다() {
+		PromotionSnapshot promotion = activePromotion(5);
+		PromotionLeaseManager first = leaseManager("pod-a");
+		long staleToken = first.acquire(promotion.id()).getAsLong();
+		first.release(promotion.id());
+		long currentToken = leaseManager("pod-b").acquire(promotion.id()).getAsLong();
+
+		WinnerSlots stale = queueService.allocateWinners(promotion, 2, staleToken);
+		WinnerSlots current = queueService.allocateWinners(promotion, 2, currentToken);
+
+		assertThat(stale.leaseLost()).isTrue();
+		assertThat(stale.count()).isZero();
+		assertThat(current).isEqualTo(new WinnerSlots(1L, 2, false, false));
+	}
+
+	@Test
+	void 롤백된_배치의_구간은_마지막_구간일_때만_반환한다() {
+		PromotionSnapshot promotion = activePromotion(4);
+		long token = leaseManager("pod-a").acquire(promotion.id()).getAsLong();
+		WinnerSlots first = queueService.allocateWinners(promotion, 2, token);
+		WinnerSlots second = queueService.allocateWinners(promotion, 2, token);
+
+		// 뒤에 다른 구간이 할당된 구간은 반환하면 순번이 겹침
+		assertThat(queueService.releaseWinners(promotion.id(), first, token)).isFalse();
+		assertThat(queueService.releaseWinners(promotion.id(), second, token)).isTrue();
+
+		// 재고 소진 플래그도 되돌아가 반환된 순번부터 다시 할당
+		assertThat(stringRedisTemplate.hasKey(RedisKeyGenerator.soldOutKey(promotion.id()))).isFalse();
+		assertThat(queueService.allocateWinners(promotion, 5, token)).isEqualTo(new WinnerSlots(3L, 2, true, false));
+	}
+}